@@ -0,0 +1,98 @@
+// 지수 데이터 조회/연동 부하 테스트 (k6, CI 에서는 실행하지 않음)
+//
+// 실행 예시
+//   k6 run -e BASE_URL=http://localhost:8080 -e INDEX_INFO_IDS=1,2,3 loadtest/index-data.js
+//
+// 같은 스크립트를 FINDEX_VIRTUAL_THREADS=false / true 로 띄운 서버에 각각 돌려
+// http_req_duration(p95)과 처리량(http_reqs)을 비교한다.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const INDEX_INFO_IDS = (__ENV.INDEX_INFO_IDS || '1').split(',').map(Number);
+const READ_VUS = Number(__ENV.READ_VUS || 200);
+const SYNC_RATE = Number(__ENV.SYNC_RATE || 1); // 초당 연동 요청 수 (Open API 호출 한도 안에서 조정)
+const DURATION = __ENV.DURATION || '2m';
+const SYNC_FROM = __ENV.SYNC_FROM || '2024-01-01';
+const SYNC_TO = __ENV.SYNC_TO || '2024-01-31';
+
+export const options = {
+    scenarios: {
+        // 목록 조회: 커서를 따라 몇 페이지씩 넘김
+        search: {
+            executor: 'constant-vus',
+            exec: 'search',
+            vus: READ_VUS,
+            duration: DURATION,
+        },
+        // 차트/순위 조회
+        dashboard: {
+            executor: 'constant-vus',
+            exec: 'dashboard',
+            vus: Math.max(1, Math.floor(READ_VUS / 4)),
+            duration: DURATION,
+        },
+        // 지수 데이터 연동 (조회와 동시에 실행해 연동 중 조회 지연을 확인)
+        sync: {
+            executor: 'constant-arrival-rate',
+            exec: 'sync',
+            rate: SYNC_RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 5,
+            maxVUs: 50,
+        },
+    },
+    thresholds: {
+        'http_req_failed{scenario:search}': ['rate<0.01'],
+        'http_req_failed{scenario:dashboard}': ['rate<0.01'],
+        'http_req_duration{scenario:search}': ['p(95)<500'],
+    },
+};
+
+function pickIndexInfoId() {
+    return INDEX_INFO_IDS[Math.floor(Math.random() * INDEX_INFO_IDS.length)];
+}
+
+export function search() {
+    let cursor = null;
+    for (let page = 0; page < 3; page++) {
+        let url = `${BASE_URL}/api/index-data?indexInfoId=${pickIndexInfoId()}&size=50`;
+        if (cursor) url += `&cursor=${encodeURIComponent(cursor)}`;
+
+        const res = http.get(url, { tags: { name: 'GET /api/index-data' } });
+        check(res, { 'search 200': (r) => r.status === 200 });
+        if (res.status !== 200) break;
+
+        const body = res.json();
+        if (!body.hasNext) break;
+        cursor = body.nextCursor;
+    }
+    sleep(0.1);
+}
+
+export function dashboard() {
+    const id = pickIndexInfoId();
+    const chart = http.get(`${BASE_URL}/api/index-data/${id}/chart?periodType=YEARLY`,
+        { tags: { name: 'GET /api/index-data/{id}/chart' } });
+    check(chart, { 'chart 200': (r) => r.status === 200 });
+
+    const rank = http.get(`${BASE_URL}/api/index-data/performance/rank?periodType=DAILY&limit=10`,
+        { tags: { name: 'GET /api/index-data/performance/rank' } });
+    check(rank, { 'rank 200': (r) => r.status === 200 });
+    sleep(0.1);
+}
+
+export function sync() {
+    const payload = JSON.stringify({
+        indexInfoIds: [pickIndexInfoId()],
+        baseDateFrom: SYNC_FROM,
+        baseDateTo: SYNC_TO,
+    });
+    const res = http.post(`${BASE_URL}/api/sync-jobs/index-data`, payload, {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'POST /api/sync-jobs/index-data' },
+        timeout: '120s',
+    });
+    check(res, { 'sync 200': (r) => r.status === 200 });
+}
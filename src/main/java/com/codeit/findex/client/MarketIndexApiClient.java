@@ -1,14 +1,24 @@
 package com.codeit.findex.client;
 
 import com.codeit.findex.dto.response.MarketIndexApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class MarketIndexApiClient {
@@ -16,16 +26,29 @@ public class MarketIndexApiClient {
     @Value("${external.finance.service-key}")
     private String serviceKey;
 
+    @Value("${external.finance.fetch.streaming-decode:true}")
+    private boolean streamingDecode; // true: 응답을 토큰 단위로 파싱 (MarketIndexItemStreamDecoder)
+
     private final WebClient webClient;
+    private final MarketIndexItemStreamDecoder itemStreamDecoder;
+    private final OpenApiPageCache pageCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 응답 한 페이지에서 파싱한 item 일부 (chunk-size 개씩, 마지막 chunk 는 더 적거나 비어 있을 수 있음)
+     * @param pageItemCount 이 chunk 까지 파싱한 페이지의 item 수 (마지막 chunk 면 페이지 전체 item 수)
+     * @param totalCount 응답 본문의 전체 결과 수 (아직 읽지 않았거나 응답에 없으면 null, 마지막 chunk 에는 최종값)
+     */
+    public record ItemChunk(List<MarketIndexApiResponse.Item> items, int pageItemCount, Integer totalCount) {}
 
     /**
-     * OpenApi에서 날짜를 기준으로 데이터를 받아옴
+     * OpenApi에서 날짜를 기준으로 전체 지수의 데이터를 한 페이지 받아옴 (논블로킹, chunk 단위로 방출)
      * @param pageNo 페이지 번호
      * @param numOfRows 가져오는 row 개수
      * @param lastSyncedDate 기준일자가 검색값보다 크거나 같은 데이터를 검색
      */
-    public MarketIndexApiResponse getFromOpenApiByPage(int pageNo, int numOfRows, String lastSyncedDate) {
-        return webClient.get()
+    public Flux<ItemChunk> fetchPage(int pageNo, int numOfRows, String lastSyncedDate) {
+        return decode(webClient.get()
                 .uri(uriBuilder -> {
                     uriBuilder.path("/getStockMarketIndex")
                             .queryParam("serviceKey", serviceKey)
@@ -39,14 +62,59 @@ public class MarketIndexApiClient {
 
                     return uriBuilder.build();
                 })
-                .accept(MediaType.APPLICATION_JSON)
+                .accept(MediaType.ALL)
                 .retrieve()
-                .bodyToMono(MarketIndexApiResponse.class)
-                .block();
+                .bodyToFlux(DataBuffer.class));
     }
 
+    /**
+     * OpenApi에서 날짜를 기준으로 데이터를 한 페이지 받아옴 (논블로킹, chunk 단위로 방출, 응답의 totalCount 도 함께 반환)
+     * - 여러 지수/페이지를 동시에 요청할 때 사용 (MarketIndexFetchEngine)
+     * - 첫 페이지의 totalCount 로 나머지 페이지 수를 계산할 때 사용
+     * - 항상 OpenApi 를 호출하고, 정상 응답은 OpenApiPageCache 에 저장 (캐시 조회는 cachedPageByBaseDate)
+     */
+    public Flux<ItemChunk> fetchPageByBaseDate(int pageNo, int numOfRows, String indexName, String beginDate, String endDate) {
+        OpenApiPageCache.PageKey key = new OpenApiPageCache.PageKey(indexName, beginDate, endDate, pageNo, numOfRows);
+        return decode(pageCache.store(key,
+                requestByBaseDate(pageNo, numOfRows, indexName, beginDate, endDate).bodyToFlux(DataBuffer.class)));
+    }
 
-    public List<MarketIndexApiResponse.Item> getFromOpenApiByBaseDate(int pageNo, int numOfRows, String indexName, String beginDate, String endDate) {
+    /**
+     * OpenApiPageCache 에 저장된 같은 요청의 응답 (없거나 만료됐으면 empty)
+     * - 저장된 응답을 읽을 수 없으면 지우고 오류 (호출하는 쪽에서 OpenApi 호출로 대체)
+     */
+    public Flux<ItemChunk> cachedPageByBaseDate(int pageNo, int numOfRows, String indexName, String beginDate, String endDate) {
+        OpenApiPageCache.PageKey key = new OpenApiPageCache.PageKey(indexName, beginDate, endDate, pageNo, numOfRows);
+        return pageCache.get(key)
+                .flatMapMany(buffer -> decode(Flux.just(buffer)))
+                .doOnError(e -> {
+                    log.warn("[MarketIndexApiClient] unreadable cached page {} - evicted", key, e);
+                    pageCache.evict(key);
+                });
+    }
+
+    private Flux<ItemChunk> decode(Flux<DataBuffer> body) {
+        if (streamingDecode) {
+            return itemStreamDecoder.decode(body);
+        }
+
+        // 응답 전체를 모아서 Jackson 으로 읽음 (비교/문제 확인용, 페이지 전체가 한 chunk)
+        return DataBufferUtils.join(body)
+                .map(this::readResponse)
+                .map(MarketIndexApiClient::toItemChunk)
+                .defaultIfEmpty(new ItemChunk(List.of(), 0, null))
+                .flux();
+    }
+
+    private MarketIndexApiResponse readResponse(DataBuffer buffer) {
+        try (InputStream in = buffer.asInputStream(true)) {
+            return objectMapper.readValue(in, MarketIndexApiResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private WebClient.ResponseSpec requestByBaseDate(int pageNo, int numOfRows, String indexName, String beginDate, String endDate) {
         if(beginDate == null || beginDate.length() != 8) throw new IllegalArgumentException("잘못된 날짜 정보입니다.");
         if(endDate == null || endDate.length() != 8) throw new IllegalArgumentException("잘못된 날짜 정보입니다.");
 
@@ -57,14 +125,31 @@ public class MarketIndexApiClient {
                         .queryParam("resultType", "json")
                         .queryParam("pageNo", pageNo)
                         .queryParam("numOfRows", numOfRows)
-                        .queryParam("idxNm", indexName)
+                        .queryParamIfPresent("idxNm", Optional.ofNullable(indexName)) // null 이면 전체 지수
                         .queryParam("beginBasDt", beginDate)
                         .queryParam("endBasDt", endDate)
                         .build())
                 .accept(MediaType.ALL)
-                .retrieve()
-                .bodyToMono(MarketIndexApiResponse.class)
-                .block().getResponse().getBody().getItems().getItem();
+                .retrieve();
+    }
+
+    private static ItemChunk toItemChunk(MarketIndexApiResponse response) {
+        Integer totalCount = response.getResponse() == null || response.getResponse().getBody() == null
+                ? null
+                : response.getResponse().getBody().getTotalCount();
+        List<MarketIndexApiResponse.Item> items = extractItems(response);
+        return new ItemChunk(items, items.size(), totalCount);
+    }
+
+    /** 응답에서 item 목록만 꺼냄 (결과가 없으면 빈 리스트) */
+    private static List<MarketIndexApiResponse.Item> extractItems(MarketIndexApiResponse response) {
+        if (response.getResponse() == null
+                || response.getResponse().getBody() == null
+                || response.getResponse().getBody().getItems() == null
+                || response.getResponse().getBody().getItems().getItem() == null) {
+            return List.of();
+        }
+        return response.getResponse().getBody().getItems().getItem();
     }
 
 }
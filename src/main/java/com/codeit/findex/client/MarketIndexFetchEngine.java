@@ -0,0 +1,226 @@
+package com.codeit.findex.client;
+
+import com.codeit.findex.dto.data.IndexInfoUnique;
+import com.codeit.findex.dto.response.MarketIndexApiResponse;
+import com.codeit.findex.entity.IndexInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 지수의 OpenApi 페이지를 동시에 가져오는 엔진
+ * - 지수 간 동시성: max-concurrency
+ * - 지수 내 페이지 동시성: per-index-concurrency
+ * - 전체 호출 속도, 제한 시간, 재시도, circuit breaker: OpenApiCallPolicy
+ * - 같은 기간 조회를 다시 하면 로컬 캐시 사용: OpenApiPageCache
+ * - 조회 방식: 지수별 조회 / 기간 전체 조회 후 지수별로 나누기 (MarketIndexFetchPlanner)
+ * - 페이지 수: 첫 페이지 응답의 totalCount 로 계산 → 빈 페이지를 확인하는 추가 요청 없이 나머지 페이지를 동시에 요청
+ * - 응답은 chunk-size 개씩 나눠서 방출 (페이지 전체를 메모리에 모으지 않음)
+ */
+@Slf4j
+@Component
+public class MarketIndexFetchEngine {
+
+    private final MarketIndexApiClient marketIndexApiClient;
+    private final OpenApiCallPolicy callPolicy;
+    private final MarketIndexFetchPlanner fetchPlanner;
+    private final int maxConcurrency;
+    private final int perIndexConcurrency;
+    private volatile int pageSize; // 한 페이지 결과 수 (OpenApi 최대값이 더 작으면 그 값으로 줄어듦)
+
+    public MarketIndexFetchEngine(MarketIndexApiClient marketIndexApiClient,
+                                  OpenApiCallPolicy callPolicy,
+                                  MarketIndexFetchPlanner fetchPlanner,
+                                  @Value("${external.finance.fetch.max-concurrency:8}") int maxConcurrency,
+                                  @Value("${external.finance.fetch.per-index-concurrency:2}") int perIndexConcurrency,
+                                  @Value("${external.finance.fetch.page-size:999}") int pageSize) {
+        this.marketIndexApiClient = marketIndexApiClient;
+        this.callPolicy = callPolicy;
+        this.fetchPlanner = fetchPlanner;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.perIndexConcurrency = Math.max(1, perIndexConcurrency);
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /** 지수 한 건에 대해 받아온 데이터 일부 (응답 한 페이지를 chunk-size 개 이하로 나눈 것) */
+    public record IndexPage(IndexInfo indexInfo, List<MarketIndexApiResponse.Item> items) {}
+
+    /**
+     * 지수 목록의 기간 데이터를 페이지 단위로 방출
+     * - 조회 방식은 MarketIndexFetchPlanner 가 지수 수와 기간으로 선택
+     * @param beginDate yyyyMMdd
+     * @param endDate yyyyMMdd
+     * @param knownIndexCount 등록된 전체 지수 수 (기간 전체 조회 시 응답 크기 추정용)
+     */
+    public Flux<IndexPage> fetchPages(List<IndexInfo> indexInfos, String beginDate, String endDate, int knownIndexCount) {
+        MarketIndexFetchPlanner.Mode mode = fetchPlanner.plan(indexInfos.size(), knownIndexCount, beginDate, endDate, pageSize);
+        if (mode == MarketIndexFetchPlanner.Mode.RANGE_WIDE) {
+            return fetchRangeWidePages(indexInfos, beginDate, endDate);
+        }
+
+        return Flux.fromIterable(indexInfos)
+                .flatMap(indexInfo -> fetchAllPages(
+                        (pageNo, numOfRows) -> fetchPageByBaseDate(pageNo, numOfRows, indexInfo.getIndexName(), beginDate, endDate),
+                        perIndexConcurrency)
+                        .map(items -> new IndexPage(indexInfo, items)), maxConcurrency);
+    }
+
+    /**
+     * 지수 이름 조건 없이 기간 전체를 조회하고, 페이지마다 (분류명, 지수명)으로 요청한 지수별 IndexPage 로 나눔
+     * - 요청하지 않은 지수의 항목은 버림
+     */
+    private Flux<IndexPage> fetchRangeWidePages(List<IndexInfo> indexInfos, String beginDate, String endDate) {
+        Map<IndexInfoUnique, IndexInfo> requested = new HashMap<>();
+        for (IndexInfo indexInfo : indexInfos) {
+            requested.put(key(indexInfo.getIndexClassification(), indexInfo.getIndexName()), indexInfo);
+        }
+
+        return fetchAllPages(
+                (pageNo, numOfRows) -> fetchPageByBaseDate(pageNo, numOfRows, null, beginDate, endDate),
+                maxConcurrency)
+                .concatMapIterable(items -> {
+                    Map<IndexInfo, List<MarketIndexApiResponse.Item>> byIndex = new LinkedHashMap<>();
+                    for (MarketIndexApiResponse.Item item : items) {
+                        IndexInfo indexInfo = requested.get(key(item.getIndexClassification(), item.getIndexName()));
+                        if (indexInfo != null) byIndex.computeIfAbsent(indexInfo, ignored -> new ArrayList<>()).add(item);
+                    }
+
+                    List<IndexPage> pages = new ArrayList<>(byIndex.size());
+                    byIndex.forEach((indexInfo, indexItems) -> pages.add(new IndexPage(indexInfo, indexItems)));
+                    return pages;
+                });
+    }
+
+    /**
+     * 기간 조회 한 페이지 - 로컬 캐시(OpenApiPageCache)에 있으면 OpenApi 호출 없이 바로 사용
+     * - 캐시에 없거나 캐시 파일을 읽다 실패하면 속도 제한/재시도 정책을 거쳐 호출
+     */
+    private Flux<MarketIndexApiClient.ItemChunk> fetchPageByBaseDate(int pageNo, int numOfRows, String indexName, String beginDate, String endDate) {
+        Flux<MarketIndexApiClient.ItemChunk> call = Flux.defer(() -> callPolicy.execute(
+                marketIndexApiClient.fetchPageByBaseDate(pageNo, numOfRows, indexName, beginDate, endDate)));
+        return marketIndexApiClient.cachedPageByBaseDate(pageNo, numOfRows, indexName, beginDate, endDate)
+                .onErrorResume(e -> call)
+                .switchIfEmpty(call);
+    }
+
+    private static IndexInfoUnique key(String indexClassification, String indexName) {
+        return IndexInfoUnique.builder()
+                .indexClassification(indexClassification)
+                .indexName(indexName)
+                .build();
+    }
+
+    /**
+     * 기준일자 이후의 전체 지수 목록을 chunk 단위로 방출 (지수 정보 연동용, 페이지 순서 유지)
+     * @param lastSyncedDate yyyyMMdd, null 이면 전체
+     */
+    public Flux<List<MarketIndexApiResponse.Item>> fetchIndexInfoPages(String lastSyncedDate) {
+        return fetchAllPages((pageNo, numOfRows) -> callPolicy.execute(marketIndexApiClient.fetchPage(pageNo, numOfRows, lastSyncedDate)), maxConcurrency);
+    }
+
+    /**
+     * 첫 페이지의 totalCount 로 필요한 페이지를 계산해서 나머지 페이지를 동시에 요청 (비어있지 않은 chunk 만, 페이지 순서대로 방출)
+     * - 첫 페이지는 받는 대로 chunk 를 내보내고, 다 받은 뒤 마지막 chunk 의 item 수와 totalCount 로 나머지 페이지를 계산
+     * - 첫 페이지가 요청한 numOfRows 보다 적게 왔는데 totalCount 가 더 크면 그 개수를 OpenApi 의 페이지 최대 크기로 보고
+     *   나머지 페이지를 그 크기로 요청 (다음 연동부터는 처음부터 그 크기로 요청)
+     * - totalCount 가 없는 응답이면 빈 페이지 또는 덜 찬 페이지가 나올 때까지 concurrency 개씩 요청
+     * - 나머지 페이지는 동시에 받되 페이지마다 chunk 하나만 미리 받아 둠 (먼저 온 페이지를 통째로 쌓아두지 않음)
+     */
+    private Flux<List<MarketIndexApiResponse.Item>> fetchAllPages(PageFetcher fetcher, int concurrency) {
+        int requestedSize = pageSize;
+        return Flux.defer(() -> {
+            PageResult first = new PageResult();
+            return items(fetcher.fetch(1, requestedSize), first)
+                    .concatWith(Flux.defer(() -> remainingPages(fetcher, first, requestedSize, concurrency)));
+        });
+    }
+
+    private Flux<List<MarketIndexApiResponse.Item>> remainingPages(PageFetcher fetcher, PageResult first, int requestedSize, int concurrency) {
+        Integer totalCount = first.totalCount;
+        int firstCount = first.itemCount;
+        if (totalCount == null) {
+            if (firstCount < requestedSize) return Flux.empty();
+            return probePages(fetcher, 2, requestedSize, concurrency);
+        }
+
+        int effectiveSize = requestedSize;
+        if (firstCount > 0 && firstCount < requestedSize && totalCount > firstCount) {
+            effectiveSize = firstCount;
+            adaptPageSize(effectiveSize);
+        }
+
+        int lastPage = (totalCount + effectiveSize - 1) / effectiveSize;
+        if (firstCount == 0 || lastPage <= 1) return Flux.empty();
+
+        int numOfRows = effectiveSize;
+        log.debug("[FetchEngine] totalCount={} pageSize={} pages={}", totalCount, numOfRows, lastPage);
+        return Flux.range(2, lastPage - 1)
+                .flatMapSequential(pageNo -> items(fetcher.fetch(pageNo, numOfRows), new PageResult()), concurrency, 1);
+    }
+
+    /**
+     * startPage 부터 concurrency 개의 페이지를 동시에 요청 (totalCount 를 모를 때)
+     * - 비어있거나 numOfRows 보다 작은 페이지가 나오면 마지막 페이지로 보고 중단
+     */
+    private Flux<List<MarketIndexApiResponse.Item>> probePages(PageFetcher fetcher, int startPage, int numOfRows, int concurrency) {
+        return Flux.defer(() -> {
+            List<PageResult> results = new ArrayList<>(concurrency);
+            return Flux.range(startPage, concurrency)
+                    .flatMapSequential(pageNo -> {
+                        PageResult result = new PageResult();
+                        results.add(result);
+                        return items(fetcher.fetch(pageNo, numOfRows), result);
+                    }, concurrency, 1)
+                    .concatWith(Flux.defer(() -> {
+                        boolean exhausted = results.stream().anyMatch(result -> result.itemCount < numOfRows);
+                        if (exhausted) return Flux.empty();
+
+                        log.debug("[FetchEngine] next pages from {}", startPage + concurrency);
+                        return probePages(fetcher, startPage + concurrency, numOfRows, concurrency);
+                    }));
+        });
+    }
+
+    /** 페이지 하나의 chunk 에서 item 만 (빈 chunk 제외), 마지막으로 받은 chunk 의 item 수와 totalCount 를 result 에 기록 */
+    private static Flux<List<MarketIndexApiResponse.Item>> items(Flux<MarketIndexApiClient.ItemChunk> chunks, PageResult result) {
+        return chunks.doOnNext(result::record)
+                .map(MarketIndexApiClient.ItemChunk::items)
+                .filter(items -> !items.isEmpty());
+    }
+
+    /** OpenApi 가 설정보다 작은 페이지만 돌려주면 이후 요청의 페이지 크기를 줄임 */
+    private void adaptPageSize(int apiMaxRows) {
+        if (apiMaxRows < pageSize) {
+            log.info("[FetchEngine] OpenApi returns at most {} rows per page - page-size {} -> {}", apiMaxRows, pageSize, apiMaxRows);
+            pageSize = apiMaxRows;
+        }
+    }
+
+    /**
+     * 페이지 하나를 다 받은 뒤의 item 수와 totalCount
+     * - 재시도로 처음부터 다시 받으면 새 응답의 값으로 덮어씀 (chunk 의 값이 응답 안에서 누적값이므로)
+     */
+    private static final class PageResult {
+
+        private volatile int itemCount;
+        private volatile Integer totalCount;
+
+        void record(MarketIndexApiClient.ItemChunk chunk) {
+            itemCount = chunk.pageItemCount();
+            totalCount = chunk.totalCount();
+        }
+    }
+
+    /** 페이지 번호, 페이지 크기 → 한 페이지 요청 (호출 정책까지 적용된 chunk 스트림) */
+    @FunctionalInterface
+    private interface PageFetcher {
+        Flux<MarketIndexApiClient.ItemChunk> fetch(int pageNo, int numOfRows);
+    }
+}
@@ -0,0 +1,64 @@
+package com.codeit.findex.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 지수 데이터 연동 시 OpenApi 조회 방식 선택
+ * - PER_INDEX: 지수마다 idxNm 조건으로 기간 조회 (지수 수만큼 요청)
+ * - RANGE_WIDE: idxNm 없이 기간 전체를 한 번 조회한 뒤 (분류명, 지수명)으로 나눔 (요청하지 않은 지수의 항목도 받음)
+ * - AUTO: 두 방식의 예상 요청 수를 비교해서 적은 쪽 선택
+ */
+@Slf4j
+@Component
+public class MarketIndexFetchPlanner {
+
+    public enum Mode { AUTO, PER_INDEX, RANGE_WIDE }
+
+    private static final DateTimeFormatter BASE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final Mode configuredMode;
+
+    public MarketIndexFetchPlanner(@Value("${external.finance.fetch.plan:AUTO}") Mode configuredMode) {
+        this.configuredMode = configuredMode;
+    }
+
+    /**
+     * @param indexCount 요청한 지수 수
+     * @param knownIndexCount 기간 전체 조회 시 응답에 포함될 것으로 보는 지수 수 (등록된 지수 정보 수)
+     * @param beginDate yyyyMMdd
+     * @param endDate yyyyMMdd
+     * @param pageSize 페이지당 결과 수
+     */
+    public Mode plan(int indexCount, int knownIndexCount, String beginDate, String endDate, int pageSize) {
+        if (configuredMode != Mode.AUTO) return configuredMode;
+        if (indexCount <= 1) return Mode.PER_INDEX;
+
+        long calendarDays;
+        try {
+            calendarDays = ChronoUnit.DAYS.between(
+                    LocalDate.parse(beginDate, BASE_DATE_FORMATTER), LocalDate.parse(endDate, BASE_DATE_FORMATTER)) + 1;
+        } catch (DateTimeParseException | NullPointerException e) {
+            return Mode.PER_INDEX; // 날짜 검증은 요청 시 MarketIndexApiClient 에서
+        }
+        long tradingDays = Math.max(1, (calendarDays * 5 + 6) / 7); // 주말 제외 추정치
+
+        long perIndexRequests = indexCount * ceilDiv(tradingDays, pageSize);
+        long rangeWideRequests = ceilDiv(Math.max(indexCount, knownIndexCount) * tradingDays, pageSize);
+
+        Mode mode = rangeWideRequests < perIndexRequests ? Mode.RANGE_WIDE : Mode.PER_INDEX;
+        log.debug("[FetchPlanner] indexes={} known={} tradingDays={} perIndex={} rangeWide={} -> {}",
+                indexCount, knownIndexCount, tradingDays, perIndexRequests, rangeWideRequests, mode);
+        return mode;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return Math.max(1, (value + divisor - 1) / divisor);
+    }
+}
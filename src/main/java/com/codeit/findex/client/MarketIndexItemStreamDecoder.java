@@ -0,0 +1,278 @@
+package com.codeit.findex.client;
+
+import com.codeit.findex.dto.response.MarketIndexApiResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OpenApi 응답(JSON)을 DataBuffer 조각 단위로 토큰 파싱해서 Item 을 정해진 개수(chunk-size)씩 방출
+ * - 응답 원문도, 페이지의 item 전체도 메모리에 모으지 않으므로 numOfRows 와 관계없이 메모리 사용량이 일정함
+ * - 조각은 FEED_BYTES 단위로 나눠서 파싱 (memory-map 한 캐시 파일처럼 큰 조각도 한 번에 디코딩하지 않음)
+ * - 요청(demand)이 있을 때만 다음 조각을 파싱 (하위 저장이 느리면 응답 수신도 대기)
+ * - basDt / basPntm 은 문자열을 만들지 않고 바로 epoch day 로 변환
+ * - 가격은 문자 배열에서 바로 BigDecimal, 거래량 등은 long 으로 변환
+ * - body 의 totalCount 는 각 chunk 에 함께 실어 보냄 (마지막 chunk 에는 항상 최종값)
+ */
+@Component
+public class MarketIndexItemStreamDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int FEED_BYTES = 64 * 1024;
+
+    private final int chunkSize;
+
+    public MarketIndexItemStreamDecoder(@Value("${external.finance.fetch.chunk-size:500}") int chunkSize) {
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 응답 한 페이지를 chunk 단위로 방출
+     * - 마지막 chunk 는 item 이 없더라도 항상 방출 (페이지의 item 수와 totalCount 확인용)
+     */
+    public Flux<MarketIndexApiClient.ItemChunk> decode(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            ItemTokenizer tokenizer = new ItemTokenizer(chunkSize);
+            return body.concatMap(MarketIndexItemStreamDecoder::slices, 1)
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release) // 취소 시 아직 파싱하지 않은 조각
+                    .concatMapIterable(tokenizer::feed, 1)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())))
+                    .doFinally(signal -> tokenizer.close());
+        });
+    }
+
+    /** DataBuffer 를 FEED_BYTES 이하의 byte[] 로 나눠서 요청할 때마다 하나씩 (다 읽으면 release) */
+    private static Flux<byte[]> slices(DataBuffer buffer) {
+        return Flux.<byte[]>generate(sink -> {
+                    int length = Math.min(FEED_BYTES, buffer.readableByteCount());
+                    if (length == 0) {
+                        sink.complete();
+                        return;
+                    }
+                    byte[] bytes = new byte[length];
+                    buffer.read(bytes);
+                    sink.next(bytes);
+                })
+                .doFinally(signal -> DataBufferUtils.release(buffer));
+    }
+
+    /** 구독 하나당 하나씩 생성되는 토큰 상태 머신 */
+    private static final class ItemTokenizer {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        private boolean expectItemValue; // "item" 필드명 다음 값 대기 중
+        private boolean inItemArray;     // "item": [ ... ] 내부
+        private MarketIndexApiResponse.Item current;
+        private String currentField;
+        private int skipDepth;           // item 안의 알 수 없는 중첩 값 건너뛰기
+        private boolean expectTotalCount; // "totalCount" 필드명 다음 값 대기 중
+        private Integer totalCount;       // 응답의 전체 결과 수 (없으면 null)
+
+        private final int chunkSize;
+        private List<MarketIndexApiResponse.Item> pending;
+        private int pageItemCount;        // 지금까지 파싱한 item 수
+
+        ItemTokenizer(int chunkSize) {
+            this.chunkSize = chunkSize;
+            this.pending = new ArrayList<>(chunkSize);
+            try {
+                this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        /** 조각 하나를 파싱하고, 그동안 가득 찬 chunk 들을 반환 */
+        List<MarketIndexApiClient.ItemChunk> feed(byte[] bytes) {
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /** 남은 item 을 마지막 chunk 로 반환 (item 이 없어도 반환) */
+        List<MarketIndexApiClient.ItemChunk> endOfInput() {
+            feeder.endOfInput();
+            try {
+                List<MarketIndexApiClient.ItemChunk> chunks = drain();
+                chunks.add(flush());
+                return chunks;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private List<MarketIndexApiClient.ItemChunk> drain() throws IOException {
+            List<MarketIndexApiClient.ItemChunk> chunks = new ArrayList<>(1);
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                MarketIndexApiResponse.Item completed = handle(token);
+                if (completed == null) continue;
+
+                pending.add(completed);
+                pageItemCount++;
+                if (pending.size() == chunkSize) chunks.add(flush());
+            }
+            return chunks;
+        }
+
+        private MarketIndexApiClient.ItemChunk flush() {
+            MarketIndexApiClient.ItemChunk chunk = new MarketIndexApiClient.ItemChunk(pending, pageItemCount, totalCount);
+            pending = new ArrayList<>(chunkSize);
+            return chunk;
+        }
+
+        /** 토큰 하나 처리. item 객체가 끝나면 해당 Item 을 반환 */
+        private MarketIndexApiResponse.Item handle(JsonToken token) throws IOException {
+            if (current != null) {
+                if (skipDepth > 0) {
+                    if (token.isStructStart()) skipDepth++;
+                    else if (token.isStructEnd()) skipDepth--;
+                    return null;
+                }
+                if (token == JsonToken.FIELD_NAME) {
+                    currentField = parser.currentName();
+                    return null;
+                }
+                if (token.isStructStart()) {
+                    skipDepth = 1;
+                    return null;
+                }
+                if (token == JsonToken.END_OBJECT) {
+                    MarketIndexApiResponse.Item completed = current;
+                    current = null;
+                    currentField = null;
+                    return completed;
+                }
+                assign(current, currentField, token);
+                return null;
+            }
+
+            if (expectItemValue) {
+                expectItemValue = false;
+                if (token == JsonToken.START_ARRAY) inItemArray = true;
+                else if (token == JsonToken.START_OBJECT) current = new MarketIndexApiResponse.Item(); // 결과가 1건이면 배열이 아닌 객체로 옴
+                return null;
+            }
+
+            if (inItemArray) {
+                if (token == JsonToken.START_OBJECT) current = new MarketIndexApiResponse.Item();
+                else if (token == JsonToken.END_ARRAY) inItemArray = false;
+                return null;
+            }
+
+            if (expectTotalCount) {
+                expectTotalCount = false;
+                if (token.isScalarValue()) {
+                    int value = parser.getValueAsInt(-1); // 숫자 또는 숫자 문자열
+                    totalCount = value < 0 ? null : value;
+                }
+                return null;
+            }
+
+            if (token == JsonToken.FIELD_NAME) {
+                if ("item".equals(parser.currentName())) expectItemValue = true;
+                else if ("totalCount".equals(parser.currentName())) expectTotalCount = true;
+            }
+            return null;
+        }
+
+        private void assign(MarketIndexApiResponse.Item item, String field, JsonToken token) throws IOException {
+            if (field == null || token == JsonToken.VALUE_NULL || !token.isScalarValue()) return;
+
+            char[] chars = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            if (length == 0) return;
+
+            switch (field) {
+                case "idxNm" -> item.setIndexName(parser.getText());
+                case "idxCsf" -> item.setIndexClassification(parser.getText());
+                case "basIdx" -> item.setBaseIndex(parser.getText());
+                case "epyItmsCnt" -> item.setEmployedItemsCount(parser.getText());
+                case "basDt" -> item.setBaseEpochDay(parseEpochDay(chars, offset, length));
+                case "basPntm" -> item.setBasePointInTimeEpochDay(parseEpochDay(chars, offset, length));
+                case "mkp" -> item.setMarketPrice(new BigDecimal(chars, offset, length));
+                case "clpr" -> item.setClosingPrice(new BigDecimal(chars, offset, length));
+                case "hipr" -> item.setHighPrice(new BigDecimal(chars, offset, length));
+                case "lopr" -> item.setLowPrice(new BigDecimal(chars, offset, length));
+                case "vs" -> item.setVersus(new BigDecimal(chars, offset, length));
+                case "fltRt" -> item.setFluctuationRate(new BigDecimal(chars, offset, length));
+                case "trqu" -> item.setTradingQuantity(parseLong(chars, offset, length));
+                case "trPrc" -> item.setTradingPrice(parseLong(chars, offset, length));
+                case "lstgMrktTotAmt" -> item.setMarketTotalAmount(parseLong(chars, offset, length));
+                default -> {
+                    // 사용하지 않는 필드
+                }
+            }
+        }
+    }
+
+    /** yyyyMMdd 문자 배열 → epoch day */
+    static int parseEpochDay(char[] chars, int offset, int length) {
+        if (length != 8) throw new IllegalArgumentException("잘못된 날짜 정보입니다: " + new String(chars, offset, length));
+        int year = digits(chars, offset, 4);
+        int month = digits(chars, offset + 4, 2);
+        int day = digits(chars, offset + 6, 2);
+        return toEpochDay(year, month, day);
+    }
+
+    /** 그레고리력 날짜 → 1970-01-01 기준 일수 (LocalDate.toEpochDay 와 동일한 결과) */
+    static int toEpochDay(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > 31) {
+            throw new IllegalArgumentException("잘못된 날짜 정보입니다: " + year + "-" + month + "-" + day);
+        }
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int digits(char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) throw new IllegalArgumentException("숫자가 아닌 값입니다: " + new String(chars, offset, count));
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static long parseLong(char[] chars, int offset, int length) {
+        boolean negative = chars[offset] == '-';
+        int start = negative ? offset + 1 : offset;
+        long value = 0;
+        for (int i = start; i < offset + length; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) throw new IllegalArgumentException("숫자가 아닌 값입니다: " + new String(chars, offset, length));
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+}
@@ -0,0 +1,149 @@
+package com.codeit.findex.client;
+
+import com.codeit.findex.exception.OpenApiUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OpenApi 호출 한 건에 적용하는 공통 정책 (MarketIndexFetchEngine 의 모든 페이지 요청에 사용)
+ * - 속도 제한: 시도마다 OpenApiRateLimiter 슬롯 예약 (재시도/hedge 요청 포함)
+ * - 시도 제한 시간: call-timeout (응답을 나눠서 받으면 첫 값까지, 이후 값 사이 간격)
+ * - 재시도: 5xx, 429, 시간 초과, 연결 오류만 지수 백오프(+jitter)로 max-retries 번까지 (4xx 는 바로 실패)
+ * - hedge: hedge-delay 안에 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용 (0 이면 사용 안 함)
+ * - circuit breaker: 재시도까지 실패한 호출이 연속 failure-threshold 번이면 open-duration 동안 호출 없이 바로 실패
+ */
+@Slf4j
+@Component
+public class OpenApiCallPolicy {
+
+    /** 누적 호출 통계 */
+    public record Stats(long calls, long successes, long failures, long retries, long timeouts, long hedges,
+                        long rejected, String circuitState) {}
+
+    private final OpenApiRateLimiter rateLimiter;
+    private final Duration callTimeout;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final Duration hedgeDelay;
+    private final OpenApiCircuitBreaker circuitBreaker;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public OpenApiCallPolicy(OpenApiRateLimiter rateLimiter,
+                             @Value("${external.finance.resilience.call-timeout:20s}") Duration callTimeout,
+                             @Value("${external.finance.resilience.max-retries:3}") int maxRetries,
+                             @Value("${external.finance.resilience.retry-backoff:500ms}") Duration retryBackoff,
+                             @Value("${external.finance.resilience.max-backoff:5s}") Duration maxBackoff,
+                             @Value("${external.finance.resilience.hedge-delay:0s}") Duration hedgeDelay,
+                             @Value("${external.finance.resilience.failure-threshold:5}") int failureThreshold,
+                             @Value("${external.finance.resilience.open-duration:30s}") Duration openDuration) {
+        this.rateLimiter = rateLimiter;
+        this.callTimeout = callTimeout;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.hedgeDelay = hedgeDelay;
+        this.circuitBreaker = new OpenApiCircuitBreaker(failureThreshold, openDuration.toNanos(), System::nanoTime);
+    }
+
+    /**
+     * source 에 정책을 적용 (source 는 구독할 때마다 요청을 새로 보내는 cold Mono 여야 함 - WebClient 요청)
+     * - circuit breaker 가 열려 있으면 OpenApiUnavailableException
+     */
+    public <T> Mono<T> execute(Mono<T> source) {
+        return execute(source.flux()).singleOrEmpty();
+    }
+
+    /**
+     * 응답을 나눠서 방출하는 요청에 정책을 적용 (source 는 구독할 때마다 요청을 새로 보내는 cold Flux)
+     * - 제한 시간은 첫 값까지, 이후에는 값 사이 간격에 적용
+     * - hedge 는 먼저 값을 내보낸 쪽을 사용
+     * - 도중에 실패해서 재시도하면 처음부터 다시 방출하므로 이미 받은 값이 한 번 더 나올 수 있음 (받는 쪽이 중복을 무시해야 함)
+     */
+    public <T> Flux<T> execute(Flux<T> source) {
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                rejected.increment();
+                return Flux.error(new OpenApiUnavailableException("OpenApi 연속 실패로 호출을 잠시 중단했습니다."));
+            }
+            calls.increment();
+
+            return hedged(attempt(source))
+                    .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                            .maxBackoff(maxBackoff)
+                            .jitter(0.5)
+                            .filter(OpenApiCallPolicy::isRetryable)
+                            .doBeforeRetry(signal -> {
+                                retries.increment();
+                                log.debug("[OpenApiCallPolicy] retry #{} after {}", signal.totalRetries() + 1, signal.failure().toString());
+                            })
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                    .doOnComplete(() -> {
+                        successes.increment();
+                        circuitBreaker.onSuccess();
+                    })
+                    .doOnError(this::onFailure)
+                    .doOnCancel(circuitBreaker::release);
+        });
+    }
+
+    public Stats stats() {
+        return new Stats(calls.sum(), successes.sum(), failures.sum(), retries.sum(), timeouts.sum(), hedges.sum(),
+                rejected.sum(), circuitBreaker.state().name());
+    }
+
+    private <T> Flux<T> attempt(Flux<T> source) {
+        return rateLimiter.throttle(source)
+                .timeout(callTimeout)
+                .doOnError(TimeoutException.class, e -> timeouts.increment());
+    }
+
+    /** hedge-delay 안에 첫 값이 없으면 같은 요청을 하나 더 보내고 먼저 값을 내보낸 쪽을 사용 (나머지는 취소) */
+    private <T> Flux<T> hedged(Flux<T> attempt) {
+        if (hedgeDelay.isZero() || hedgeDelay.isNegative()) return attempt;
+
+        Flux<T> hedge = Mono.delay(hedgeDelay)
+                .doOnNext(tick -> hedges.increment())
+                .thenMany(attempt);
+        return Flux.firstWithSignal(attempt, hedge);
+    }
+
+    private void onFailure(Throwable error) {
+        failures.increment();
+        if (!isRetryable(error)) {
+            circuitBreaker.onSuccess(); // 응답은 왔으므로(4xx, 응답 형식 오류 등) 장애로 보지 않음
+            return;
+        }
+        if (circuitBreaker.onFailure()) {
+            log.warn("[OpenApiCallPolicy] circuit opened after consecutive failures - last error: {}", error.toString());
+        }
+    }
+
+    /** 다시 보내면 성공할 수 있는 오류인지 (5xx, 429, 시간 초과, 연결/IO 오류) */
+    static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError() || responseException.getStatusCode().value() == 429;
+        }
+        return error instanceof TimeoutException
+                || error instanceof WebClientRequestException
+                || error instanceof IOException;
+    }
+}
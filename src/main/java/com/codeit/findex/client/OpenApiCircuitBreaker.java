@@ -0,0 +1,102 @@
+package com.codeit.findex.client;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * OpenApi 호출용 circuit breaker (OpenApiCallPolicy 에서만 사용)
+ * - CLOSED: 모두 호출, 연속 실패가 failureThreshold 번이면 OPEN
+ * - OPEN: openDuration 동안 호출하지 않고 바로 실패
+ * - HALF_OPEN: openDuration 이 지나면 한 건만 시험 호출 → 성공하면 CLOSED, 실패하면 다시 OPEN
+ * - 상태 변경은 ReentrantLock 으로 보호 (virtual thread 에서 호출돼도 carrier 를 붙잡지 않음)
+ */
+final class OpenApiCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight; // HALF_OPEN 에서 시험 호출 진행 중
+
+    OpenApiCircuitBreaker(int failureThreshold, long openNanos, LongSupplier nanoClock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /** 호출해도 되면 true (false 면 바로 실패 처리) */
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (nanoClock.getAsLong() - openedAt < openNanos) return false;
+                    state = State.HALF_OPEN;
+                    trialInFlight = true;
+                    return true;
+                default:
+                    if (trialInFlight) return false;
+                    trialInFlight = true;
+                    return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess() {
+        lock.lock();
+        try {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** @return 이번 실패로 OPEN 이 되면 true */
+    boolean onFailure() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+            if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+                boolean opened = state != State.OPEN;
+                state = State.OPEN;
+                openedAt = nanoClock.getAsLong();
+                consecutiveFailures = 0;
+                return opened;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 결과 없이 끝난 호출 (취소) - 시험 호출 자리만 반납 */
+    void release() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
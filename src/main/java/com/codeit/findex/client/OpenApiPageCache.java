@@ -0,0 +1,230 @@
+package com.codeit.findex.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * OpenApi 기간 조회(getStockMarketIndex) 응답 원문을 로컬 디스크에 저장해서 재사용
+ * - 키: (idxNm, beginBasDt, endBasDt, pageNo, numOfRows) 의 SHA-256 → {directory}/{앞 2자리}/{해시}.json
+ * - 읽을 때는 파일을 memory-map 해서 그대로 디코더에 넘김 (복사 없음)
+ * - 기간이 끝난 지 settle-days 일이 지난 뒤 받은 응답은 바뀌지 않으므로 만료 없음,
+ *   그 전에(오늘이 포함된 기간 등) 받은 응답은 open-range-ttl 동안만 사용
+ * - 정상 응답(resultCode 00)만 저장
+ */
+@Slf4j
+@Component
+public class OpenApiPageCache {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter BASE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Pattern SUCCESS_HEADER = Pattern.compile("\"resultCode\"\\s*:\\s*\"00\"");
+    private static final int HEADER_SCAN_BYTES = 512; // resultCode 는 응답 맨 앞 header 에 있음
+
+    /** 캐시 키 (indexName 이 null 이면 전체 지수 조회) */
+    public record PageKey(String indexName, String beginDate, String endDate, int pageNo, int numOfRows) {
+
+        String canonical() {
+            return String.join("|", "getStockMarketIndex", indexName == null ? "" : indexName,
+                    beginDate, endDate, Integer.toString(pageNo), Integer.toString(numOfRows));
+        }
+    }
+
+    private final boolean enabled;
+    private final Path directory;
+    private final Duration openRangeTtl;
+    private final int settleDays;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+
+    public OpenApiPageCache(@Value("${external.finance.cache.enabled:true}") boolean enabled,
+                            @Value("${external.finance.cache.directory:${java.io.tmpdir}/findex-open-api-cache}") Path directory,
+                            @Value("${external.finance.cache.open-range-ttl:10m}") Duration openRangeTtl,
+                            @Value("${external.finance.cache.settle-days:1}") int settleDays) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.openRangeTtl = openRangeTtl;
+        this.settleDays = Math.max(0, settleDays);
+    }
+
+    /** 유효한 캐시 항목의 응답 본문, 없거나 만료됐으면 empty */
+    public Mono<DataBuffer> get(PageKey key) {
+        if (!enabled) return Mono.empty();
+        return Mono.fromCallable(() -> read(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(buffer -> hits.increment())
+                .switchIfEmpty(Mono.fromRunnable(misses::increment));
+    }
+
+    /**
+     * 응답 본문을 흘려 보내면서 같은 조각을 임시 파일에도 씀 (본문을 메모리에 모으지 않음)
+     * - 본문이 끝까지 오고 정상 응답이면 항목 위치로 이동, 오류/취소(제한 시간, hedge)면 임시 파일 삭제
+     * - 비활성화 상태면 body 를 그대로 반환
+     * - 임시 파일 쓰기가 실패하면 그 페이지 호출도 실패로 끝남 (OpenApiCallPolicy 가 재시도)
+     */
+    public Flux<DataBuffer> store(PageKey key, Flux<DataBuffer> body) {
+        if (!enabled) return body;
+        return Flux.usingWhen(
+                Mono.fromCallable(() -> new PendingEntry(pathOf(key))).subscribeOn(Schedulers.boundedElastic()),
+                entry -> DataBufferUtils.write(body.doOnNext(entry::captureHead), entry.channel),
+                entry -> Mono.fromRunnable(entry::commit).subscribeOn(Schedulers.boundedElastic()),
+                (entry, error) -> Mono.fromRunnable(entry::discard).subscribeOn(Schedulers.boundedElastic()),
+                entry -> Mono.fromRunnable(entry::discard).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    /** 깨진 항목 등 더 이상 쓰면 안 되는 항목 삭제 */
+    public void evict(PageKey key) {
+        try {
+            Files.deleteIfExists(pathOf(key));
+        } catch (IOException e) {
+            log.warn("[OpenApiPageCache] failed to evict {}", key, e);
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long writeCount() {
+        return writes.sum();
+    }
+
+    private DataBuffer read(PageKey key) throws IOException {
+        Path path = pathOf(key);
+        if (!Files.isRegularFile(path)) return null;
+
+        Instant written = Files.getLastModifiedTime(path).toInstant();
+        if (!isImmutable(key, written) && written.plus(openRangeTtl).isBefore(Instant.now())) {
+            Files.deleteIfExists(path);
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return DefaultDataBufferFactory.sharedInstance.wrap(mapped);
+        }
+    }
+
+    /** 기간 마지막 날부터 settle-days 일이 지난 뒤 받은 응답이면 더 바뀌지 않음 */
+    private boolean isImmutable(PageKey key, Instant written) {
+        try {
+            LocalDate endDate = LocalDate.parse(key.endDate(), BASE_DATE_FORMATTER);
+            return LocalDate.ofInstant(written, ZONE).isAfter(endDate.plusDays(settleDays));
+        } catch (DateTimeParseException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 저장 중인 항목 - 임시 파일에 쓴 뒤 이동 → 읽는 쪽이 쓰다 만 파일을 보지 않음
+     * - resultCode 확인용으로 응답 맨 앞 HEADER_SCAN_BYTES 바이트만 따로 보관
+     */
+    private final class PendingEntry {
+
+        private final Path path;
+        private final Path temp;
+        private final AsynchronousFileChannel channel;
+        private final ByteArrayOutputStream head = new ByteArrayOutputStream(HEADER_SCAN_BYTES);
+
+        PendingEntry(Path path) throws IOException {
+            this.path = path;
+            Files.createDirectories(path.getParent());
+            this.temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            this.channel = AsynchronousFileChannel.open(temp, StandardOpenOption.WRITE);
+        }
+
+        void captureHead(DataBuffer buffer) {
+            int length = Math.min(HEADER_SCAN_BYTES - head.size(), buffer.readableByteCount());
+            for (int i = 0; i < length; i++) {
+                head.write(buffer.getByte(buffer.readPosition() + i));
+            }
+        }
+
+        void commit() {
+            close();
+            try {
+                if (isSuccessResponse(head.toByteArray())) {
+                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    writes.increment();
+                }
+            } catch (IOException e) {
+                log.warn("[OpenApiPageCache] failed to write {}", path, e);
+            } finally {
+                deleteTemp();
+            }
+        }
+
+        void discard() {
+            close();
+            deleteTemp();
+        }
+
+        private void close() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void deleteTemp() {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                log.warn("[OpenApiPageCache] failed to delete {}", temp, e);
+            }
+        }
+    }
+
+    private Path pathOf(PageKey key) {
+        String hash = sha256(key.canonical());
+        return directory.resolve(hash.substring(0, 2)).resolve(hash + ".json");
+    }
+
+    private static boolean isSuccessResponse(byte[] bytes) {
+        String head = new String(bytes, 0, Math.min(bytes.length, HEADER_SCAN_BYTES), StandardCharsets.UTF_8);
+        return SUCCESS_HEADER.matcher(head).find();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
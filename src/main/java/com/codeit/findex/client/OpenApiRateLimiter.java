@@ -0,0 +1,55 @@
+package com.codeit.findex.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenApi 호출 전역 속도 제한기
+ * - 초당 허용 호출 수(permits-per-second)만큼 호출 시점을 균등하게 분배
+ * - 스레드를 점유하지 않고 Mono.delay 로 대기하므로 WebClient 조합에 그대로 끼워 쓸 수 있음
+ */
+@Component
+public class OpenApiRateLimiter {
+
+    private final long intervalNanos;
+    private final AtomicLong nextSlot = new AtomicLong(System.nanoTime()); // 다음 호출이 허용되는 시각(nanoTime)
+
+    public OpenApiRateLimiter(@Value("${external.finance.fetch.permits-per-second:20}") int permitsPerSecond) {
+        if (permitsPerSecond <= 0) throw new IllegalArgumentException("permits-per-second 는 1 이상이어야 합니다.");
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+    }
+
+    /** 호출 한 건의 슬롯을 예약하고, 그 슬롯까지 기다려야 하는 시간을 반환 */
+    public Duration reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long prev = nextSlot.get();
+            long slot = Math.max(prev, now);
+            if (nextSlot.compareAndSet(prev, slot + intervalNanos)) {
+                return Duration.ofNanos(slot - now);
+            }
+        }
+    }
+
+    /** 구독 시점에 슬롯을 예약한 뒤 source 를 실행 */
+    public <T> Mono<T> throttle(Mono<T> source) {
+        return Mono.defer(() -> {
+            Duration wait = reserve();
+            return wait.isZero() ? source : Mono.delay(wait).then(source);
+        });
+    }
+
+    /** 구독 시점에 슬롯을 예약한 뒤 source 를 실행 (응답을 나눠서 받는 요청용) */
+    public <T> Flux<T> throttle(Flux<T> source) {
+        return Flux.defer(() -> {
+            Duration wait = reserve();
+            return wait.isZero() ? source : Mono.delay(wait).thenMany(source);
+        });
+    }
+}
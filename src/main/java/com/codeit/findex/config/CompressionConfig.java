@@ -0,0 +1,39 @@
+package com.codeit.findex.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class CompressionConfig {
+
+    @Value("${findex.compression.enabled:true}")
+    private boolean enabled;
+
+    @Value("${findex.compression.min-size:2048}")
+    private int minSize;
+
+    @Value("${findex.compression.gzip-level:6}")
+    private int gzipLevel;
+
+    @Value("${findex.compression.zstd-level:3}")
+    private int zstdLevel;
+
+    @Value("${findex.compression.zstd-enabled:true}")
+    private boolean zstdEnabled;
+
+    @Value("${findex.compression.mime-types:application/json,text/csv,application/vnd.apache.arrow.stream}")
+    private List<String> mimeTypes;
+
+    @Bean
+    public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilter() {
+        FilterRegistrationBean<ResponseCompressionFilter> registration = new FilterRegistrationBean<>(
+                new ResponseCompressionFilter(minSize, gzipLevel, zstdLevel, zstdEnabled, mimeTypes));
+        registration.addUrlPatterns("/api/*");
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
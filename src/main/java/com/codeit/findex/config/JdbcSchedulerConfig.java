@@ -0,0 +1,22 @@
+package com.codeit.findex.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 리액티브 연동 흐름에서 블로킹 JDBC 작업(저장, 조회)을 실행하는 전용 스케줄러
+ * - 스레드 수를 DB 커넥션 풀 크기보다 작게 제한 → 동시에 여러 지수를 연동해도 커넥션 대기가 생기지 않음
+ * - 스레드가 모두 사용 중이면 작업은 큐에서 대기 (큐가 가득 차면 거부)
+ */
+@Configuration
+public class JdbcSchedulerConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(@Value("${findex.sync.jdbc-concurrency:4}") int concurrency,
+                                   @Value("${findex.sync.jdbc-queue-capacity:10000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(Math.max(1, concurrency), queueCapacity, "index-data-jdbc", 60, true);
+    }
+}
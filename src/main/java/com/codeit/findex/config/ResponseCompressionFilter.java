@@ -0,0 +1,381 @@
+package com.codeit.findex.config;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 스트리밍 압축 필터 (Accept-Encoding 협상: zstd > gzip)
+ * - 처음 min-size 바이트까지만 메모리에 모아 두고, 넘으면 그때부터 압축 스트림으로 바로 흘려 보냄 (전체 본문을 버퍼링하지 않음)
+ * - min-size 안에서 끝나는 작은 응답은 압축하지 않고 그대로 전송
+ * - 압축 중 flush 는 압축기의 sync flush 로 전달되므로 CSV/Arrow 내보내기의 주기적 flush 가 그대로 동작
+ * - 비동기 요청(Mono 반환 등)은 첫 디스패치가 아니라 마지막 async 디스패치가 끝날 때 마무리
+ * - 체인에서 예외가 나면 본문을 보내지 않고 버림 (커밋 전이면 오류 응답으로 대체 가능)
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+    private static final String ZSTD = "zstd";
+
+    private final int minSize;
+    private final int gzipLevel;
+    private final int zstdLevel;
+    private final boolean zstdEnabled;
+    private final List<String> mimeTypes;
+
+    public ResponseCompressionFilter(int minSize, int gzipLevel, int zstdLevel, boolean zstdEnabled, List<String> mimeTypes) {
+        this.minSize = Math.max(0, minSize);
+        this.gzipLevel = gzipLevel;
+        this.zstdLevel = zstdLevel;
+        this.zstdEnabled = zstdEnabled;
+        this.mimeTypes = mimeTypes;
+    }
+
+    // Mono/DeferredResult 를 반환하는 컨트롤러는 본문을 async 디스패치에서 쓰므로 그 디스패치도 거쳐야 마무리할 수 있음
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // async 디스패치면 첫 디스패치에서 만든 래퍼가 그대로 넘어옴 (startAsync 시점의 응답 객체)
+        CompressingResponse compressingResponse = WebUtils.getNativeResponse(response, CompressingResponse.class);
+        if (compressingResponse == null) {
+            String encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            if (encoding == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            compressingResponse = new CompressingResponse(response, encoding);
+        }
+
+        try {
+            filterChain.doFilter(request, compressingResponse);
+        } catch (IOException | ServletException | RuntimeException e) {
+            // 정상 종료가 아니면 모아 둔 본문을 보내지 않음 (커밋 전이면 컨테이너가 오류 응답을 보낼 수 있도록)
+            compressingResponse.abandon();
+            throw e;
+        }
+
+        // 비동기 처리가 시작됐으면 아직 본문이 없음 → 마지막(async) 디스패치가 끝날 때 마무리
+        if (!isAsyncStarted(request)) {
+            compressingResponse.finish();
+        }
+    }
+
+    /** 클라이언트가 받을 수 있는 인코딩 중 우선순위가 가장 높은 것 (없으면 null) */
+    private String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) return null;
+
+        boolean gzip = false;
+        boolean zstd = false;
+        for (String token : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = token.trim().split(";");
+            if (isRejected(parts)) continue;
+            switch (parts[0].trim()) {
+                case GZIP -> gzip = true;
+                case ZSTD -> zstd = true;
+                case "*" -> gzip = true;
+                default -> {
+                }
+            }
+        }
+        if (zstd && zstdEnabled) return ZSTD;
+        return gzip ? GZIP : null;
+    }
+
+    // "gzip;q=0" 처럼 q=0 이면 거부
+    private static boolean isRejected(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) return false;
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return mimeTypes.stream().anyMatch(type::startsWith);
+    }
+
+    private OutputStream compressor(String encoding, OutputStream target) throws IOException {
+        if (ZSTD.equals(encoding)) {
+            return new ZstdOutputStream(target, zstdLevel);
+        }
+        return new GZIPOutputStream(target, 8192, true) {
+            {
+                def.setLevel(gzipLevel);
+            }
+        };
+    }
+
+    /** 압축 여부를 min-size 바이트 시점에 결정하는 응답 래퍼 */
+    private final class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final String encoding;
+        private CompressingOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean streamUsed; // getOutputStream() 으로 받아 갔는지 (reset 하면 초기화)
+
+        CompressingResponse(HttpServletResponse response, String encoding) {
+            super(response);
+            this.encoding = encoding;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) throw new IllegalStateException("getWriter() 가 이미 호출되었습니다.");
+            streamUsed = true;
+            return stream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (streamUsed) throw new IllegalStateException("getOutputStream() 이 이미 호출되었습니다.");
+                writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        // 압축 여부가 정해지기 전에는 원본 길이를 보낼 수 없으므로 무시 (finish 에서 직접 설정)
+        @Override
+        public void setContentLength(int len) {
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) writer.flush();
+            else if (outputStream != null) outputStream.flush();
+        }
+
+        // 헤더/상태까지 초기화 → 모아 둔 본문과 압축 결정도 버림 (Vary 는 다시 추가)
+        @Override
+        public void reset() {
+            super.reset();
+            writer = null; // PrintWriter 안에 남은 문자도 버리고, getWriter/getOutputStream 선택도 초기화
+            streamUsed = false;
+            if (outputStream != null) outputStream.discard();
+            original().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        // 본문만 초기화 → 압축을 이미 시작했으면 Content-Encoding 도 제거하고 다시 결정
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            if (outputStream != null) outputStream.discard();
+        }
+
+        private CompressingOutputStream stream() {
+            if (outputStream == null) outputStream = new CompressingOutputStream(this);
+            return outputStream;
+        }
+
+        void finish() throws IOException {
+            if (writer != null) writer.close();
+            else if (outputStream != null) outputStream.close();
+        }
+
+        /**
+         * 체인이 예외로 끝났을 때 (클라이언트 연결 끊김 등)
+         * - 아직 커밋되지 않았으면 본문과 압축 헤더를 버림
+         * - 압축기는 클라이언트로 아무것도 보내지 않고 해제 (Deflater / zstd native context)
+         */
+        void abandon() {
+            if (outputStream != null) {
+                if (!original().isCommitted()) original().resetBuffer();
+                outputStream.abandon();
+            }
+            writer = null;
+        }
+
+        HttpServletResponse original() {
+            return (HttpServletResponse) getResponse();
+        }
+    }
+
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private final CompressingResponse response;
+        private ByteArrayOutputStream pending = new ByteArrayOutputStream(); // 압축 여부 결정 전 버퍼
+        private OutputStream target;                                         // 결정 후 출력 대상
+        private DetachableOutputStream compressorSink;                       // 압축 중이면 압축기와 원본 스트림 사이
+        private boolean compressing;                                         // Content-Encoding 을 설정했는지
+        private boolean closed;
+        private WriteListener writeListener;
+
+        CompressingOutputStream(CompressingResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) throw new IOException("이미 닫힌 스트림입니다.");
+            if (target != null) {
+                target.write(b, off, len);
+                return;
+            }
+            pending.write(b, off, len);
+            if (pending.size() > minSize) {
+                decide(true);
+            }
+        }
+
+        // 결정 전 flush 는 보류 (min-size 이전에 헤더가 커밋되면 압축 여부를 바꿀 수 없음)
+        @Override
+        public void flush() throws IOException {
+            if (target != null) target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            if (target == null) decide(false);
+            target.close();
+        }
+
+        /** 모아 둔 본문과 압축 결정을 버리고 처음 상태로 (응답 버퍼는 호출한 쪽에서 비움) */
+        void discard() {
+            HttpServletResponse original = response.original();
+            if (compressing && !original.isCommitted()) {
+                original.setHeader(HttpHeaders.CONTENT_ENCODING, null); // Servlet 6: null 이면 헤더 제거
+            }
+            releaseCompressor();
+            pending = new ByteArrayOutputStream();
+            target = null;
+            compressing = false;
+            closed = false;
+        }
+
+        /** 더 이상 쓰지 않음 - 압축기를 해제하고 닫힌 상태로 */
+        void abandon() {
+            discard();
+            closed = true;
+        }
+
+        // 원본 스트림과 분리한 뒤 압축기를 닫음 → 남은 압축 데이터/trailer 는 버려지고 압축기 자원만 해제
+        private void releaseCompressor() {
+            if (compressorSink == null) return;
+            compressorSink.detach();
+            compressorSink = null;
+            try {
+                target.close();
+            } catch (IOException ignored) {
+                // 출력은 이미 버리는 중이므로 해제 실패만 무시
+            }
+        }
+
+        /** @param large min-size 를 넘었는지 여부 */
+        private void decide(boolean large) throws IOException {
+            HttpServletResponse original = response.original();
+            boolean compress = large
+                    && !original.isCommitted()
+                    && original.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                    && isCompressible(original.getContentType());
+
+            if (compress) {
+                original.setHeader(HttpHeaders.CONTENT_ENCODING, response.encoding);
+                compressorSink = new DetachableOutputStream(original.getOutputStream());
+                target = compressor(response.encoding, compressorSink);
+                compressing = true;
+            } else {
+                if (!large && !original.isCommitted()) original.setContentLength(pending.size());
+                target = original.getOutputStream();
+            }
+            pending.writeTo(target);
+            pending = null;
+        }
+
+        // 비블로킹 쓰기는 원본 스트림에 위임 (결정 전 버퍼링은 min-size 까지만이므로 항상 쓸 수 있음)
+        @Override
+        public boolean isReady() {
+            if (writeListener == null) return true;
+            try {
+                return response.original().getOutputStream().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                response.original().getOutputStream().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            this.writeListener = writeListener;
+        }
+    }
+
+    /** 압축기 출력 대상 - detach 이후의 쓰기/flush/close 는 원본 스트림에 전달하지 않음 */
+    private static final class DetachableOutputStream extends OutputStream {
+
+        private OutputStream out;
+
+        DetachableOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        void detach() {
+            out = OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
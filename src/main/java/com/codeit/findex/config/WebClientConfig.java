@@ -1,13 +1,17 @@
 package com.codeit.findex.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -16,22 +20,46 @@ public class WebClientConfig {
     @Value("${external.finance.base-url}")
     private String baseUrl;
 
+    @Value("${external.finance.http.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${external.finance.http.response-timeout:15s}")
+    private Duration responseTimeout; // 요청 전송 후 응답 헤더까지, 이후 본문 수신 중에는 읽기 사이 간격
+
+    @Value("${external.finance.http.max-connections:32}")
+    private int maxConnections;
+
+    @Value("${external.finance.http.pending-acquire-timeout:10s}")
+    private Duration pendingAcquireTimeout; // 커넥션이 모두 사용 중일 때 대기 한도
+
+    /** OpenApi 전용 커넥션 풀 (크기 제한 + 오래 쉰 커넥션 정리) */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider financeConnectionProvider() {
+        return ConnectionProvider.builder("finance-open-api")
+                .maxConnections(Math.max(1, maxConnections))
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+    }
+
     @Bean
-    public WebClient financeWebClient() {
+    public WebClient financeWebClient(ConnectionProvider financeConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(financeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                // 읽기 제한은 responseTimeout 하나로 (본문 전체 제한은 OpenApiCallPolicy 의 call-timeout)
+                .responseTimeout(responseTimeout);
+
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeaders(headers -> {
                     headers.setAccept(List.of(
                             MediaType.APPLICATION_JSON,
                             new MediaType("application", "json", StandardCharsets.UTF_8)
                     ));
                 })
-                .exchangeStrategies(ExchangeStrategies.builder()
-                        .codecs(configurer ->
-                                configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024) // 10MB
-                        )
-                        .build()
-                )
+                // 응답 본문은 DataBuffer 로 받아 MarketIndexItemStreamDecoder 가 나눠서 파싱하므로 maxInMemorySize 를 늘리지 않음
                 .build();
     }
-}
\ No newline at end of file
+}
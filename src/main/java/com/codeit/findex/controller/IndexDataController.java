@@ -4,6 +4,9 @@ import com.codeit.findex.dto.data.ChartPeriodType;
 import com.codeit.findex.dto.data.CursorPageResponseIndexDataDto;
 import com.codeit.findex.dto.data.IndexChartDto;
 import com.codeit.findex.dto.data.IndexDataDto;
+import com.codeit.findex.dto.data.IndexDataRollupDto;
+import com.codeit.findex.dto.data.PartitionBy;
+import com.codeit.findex.dto.data.RollupPeriod;
 import com.codeit.findex.dto.request.IndexDataCreateRequest;
 import com.codeit.findex.dto.request.IndexDataSearchCondition;
 import com.codeit.findex.dto.request.IndexDataUpdateRequest;
@@ -14,11 +17,13 @@ import com.codeit.findex.service.IndexDataService;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -71,6 +76,31 @@ public class IndexDataController {
         indexDataService.exportIndexDataToCsv(response.getWriter(), condition);
     }
 
+    @GetMapping("/export/arrow")
+    public void exportIndexDataToArrow(
+            HttpServletResponse response,
+            IndexDataSearchCondition condition
+    ) throws IOException {
+        response.setContentType("application/vnd.apache.arrow.stream");
+        String fileName = "index-data_" + java.time.LocalDate.now() + ".arrows";
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+
+        indexDataService.exportIndexDataToArrow(response.getOutputStream(), condition);
+    }
+
+    @GetMapping("/export/csv/partitioned")
+    public void exportIndexDataToPartitionedCsv(
+            HttpServletResponse response,
+            IndexDataSearchCondition condition,
+            @RequestParam(defaultValue = "INDEX") PartitionBy partitionBy
+    ) throws IOException {
+        response.setContentType("application/zip");
+        String fileName = "index-data_" + java.time.LocalDate.now() + ".zip";
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+
+        indexDataService.exportIndexDataToPartitionedCsv(response.getOutputStream(), condition, partitionBy);
+    }
+
     @GetMapping("/performance/favorite")
     public ResponseEntity<List<MajorIndexDataResponse>> getMajorIndex(@RequestParam String periodType) {
         List<MajorIndexDataResponse> response = dashBoardService.getMajorIndex(periodType);
@@ -80,8 +110,19 @@ public class IndexDataController {
     @GetMapping("/{id}/chart")
     public ResponseEntity<IndexChartDto> getIndexChart(
             @PathVariable Long id,
-            @RequestParam(defaultValue = "YEARLY") ChartPeriodType periodType) {
-        IndexChartDto response = dashBoardService.getIndexChart(id, periodType);
+            @RequestParam(defaultValue = "YEARLY") ChartPeriodType periodType,
+            @RequestParam(required = false) Integer maxPoints) {
+        IndexChartDto response = dashBoardService.getIndexChart(id, periodType, maxPoints);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/rollups")
+    public ResponseEntity<List<IndexDataRollupDto>> getIndexRollups(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "WEEK") RollupPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        List<IndexDataRollupDto> response = dashBoardService.getIndexRollups(id, period, startDate, endDate);
         return ResponseEntity.ok(response);
     }
 
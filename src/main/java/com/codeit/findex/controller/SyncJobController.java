@@ -14,6 +14,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
 
@@ -25,6 +27,7 @@ public class SyncJobController {
     private final IndexInfoSyncService indexInfoSyncService;
     private final IndexDataSyncService indexDataSyncService;
     private final SyncJobService syncJobService;
+    private final Scheduler jdbcScheduler;
 
     // 지수 정보 연동
     @PostMapping("/index-infos")
@@ -38,15 +41,17 @@ public class SyncJobController {
     }
 
     // 지수 데이터 연동
+    // - Mono 를 반환하므로 연동이 끝날 때까지 서블릿 스레드를 점유하지 않음 (비동기 요청으로 처리)
     @PostMapping("/index-data")
-    public ResponseEntity<List<SyncJobDto>> createIndexDataSyncJob( HttpServletRequest request, @Valid @RequestBody IndexDataSyncRequest syncData) {
-        // 작업자 IP 주소
+    public Mono<ResponseEntity<List<SyncJobDto>>> createIndexDataSyncJob(HttpServletRequest request, @Valid @RequestBody IndexDataSyncRequest syncData) {
+        // 작업자 IP 주소 (요청 객체는 비동기 처리 중 재사용될 수 있으므로 먼저 꺼내둠)
         String workerId = request.getRemoteAddr();
         // 1. OpenAPI 에서 가져온 데이터를 지수 데이터 저장
-        indexDataSyncService.createIndexData(syncData);
-        //2. 데이터가 생성되면 연동 작업 테이블에 기록 남기기
-        List<SyncJobDto> response = syncJobService.createSyncJobsOfIndexData(workerId, syncData);
-        return ResponseEntity.ok(response);
+        return indexDataSyncService.syncIndexData(syncData)
+                //2. 데이터가 생성되면 연동 작업 테이블에 기록 남기기
+                .then(Mono.fromCallable(() -> syncJobService.createSyncJobsOfIndexData(workerId, syncData))
+                        .subscribeOn(jdbcScheduler))
+                .map(ResponseEntity::ok);
     }
 
     // 연동 작업 목록 조회
@@ -3,5 +3,9 @@ package com.codeit.findex.dto.data;
 public enum ChartPeriodType {
     MONTHLY,
     QUARTERLY,
-    YEARLY
+    YEARLY,
+    THREE_YEARS,
+    FIVE_YEARS,
+    TEN_YEARS,
+    ALL
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.codeit.findex.dto.data;
+
+/**
+ * 커서 페이지 조회 시 전체 개수(totalElements) 계산 방식
+ */
+public enum CountStrategy {
+    EXACT,      // 매 요청마다 COUNT 실행
+    ESTIMATED,  // PostgreSQL 통계/실행계획의 추정치 (그 외 DB 는 EXACT)
+    CACHED,     // 필터 조건별로 TTL 동안 재사용
+    NONE        // 계산하지 않음 (totalElements = null)
+}
@@ -1,7 +1,13 @@
 package com.codeit.findex.dto.data;
 
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 지수 차트 데이터
+ * - ma5DataPoints, ma20DataPoints: 기존 화면용 5일/20일 종가 이동평균
+ * - movingAverages: findex.chart.moving-average-windows 에 설정된 기간별 종가 이동평균 (기간 → 점 목록, 5/20 은 위 필드로만 내려감)
+ */
 public record IndexChartDto(
         Long indexInfoId,
         String indexClassification,
@@ -9,5 +15,6 @@ public record IndexChartDto(
         ChartPeriodType periodType,
         List<ChartDataPoint> dataPoints,
         List<ChartDataPoint> ma5DataPoints,
-        List<ChartDataPoint> ma20DataPoints
+        List<ChartDataPoint> ma20DataPoints,
+        Map<Integer, List<ChartDataPoint>> movingAverages
 ) {}
@@ -0,0 +1,29 @@
+package com.codeit.findex.dto.data;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 지수 하나의 기간(주/월/연) 집계
+ * - periodEnd: 기간 안 마지막 거래일
+ * - versus, fluctuationRate: 직전 기간 종가 대비 (직전 기간이 없으면 null)
+ */
+@Builder
+public record IndexDataRollupDto(
+        Long indexInfoId,
+        RollupPeriod period,
+        LocalDate periodStart,
+        LocalDate periodEnd,
+        int tradingDays,
+        BigDecimal openPrice,
+        BigDecimal highPrice,
+        BigDecimal lowPrice,
+        BigDecimal closePrice,
+        Long tradingQuantity,
+        Long tradingPrice,
+        BigDecimal previousClosePrice,
+        BigDecimal versus,
+        BigDecimal fluctuationRate
+) {}
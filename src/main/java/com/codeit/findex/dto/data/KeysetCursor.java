@@ -0,0 +1,90 @@
+package com.codeit.findex.dto.data;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 목록 API 공통 keyset 커서 (정렬 필드, 정렬 방향, 마지막 정렬값, 마지막 id)
+ * - 응답에는 Base64(URL-safe) 로 인코딩한 불투명 문자열로 내려가고, 다음 요청에서 그대로 돌려받음
+ * - 정렬값은 타입 태그와 함께 인코딩되므로 디코딩 시 원래 타입(LocalDate, BigDecimal 등)으로 복원
+ * - 요청의 정렬 조건과 다른 커서는 IllegalArgumentException (400)
+ */
+public record KeysetCursor(String sortField, boolean descending, Object lastValue, long lastId) {
+
+    private static final String VERSION = "1";
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + sortField + SEPARATOR + (descending ? 'd' : 'a') + SEPARATOR
+                + lastId + SEPARATOR + tag(lastValue); // 정렬값에는 구분자가 들어갈 수 있으므로 항상 마지막
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 디코딩하고 요청의 정렬 조건과 일치하는지 확인
+     * @return 커서가 비어 있으면 null
+     */
+    public static KeysetCursor decode(String token, String expectedSortField, boolean expectedDescending) {
+        if (token == null || token.isBlank()) return null;
+
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        String[] parts = raw.split("\\|", 5);
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (!parts[1].equals(expectedSortField) || ("d".equals(parts[2])) != expectedDescending) {
+            throw new IllegalArgumentException("커서의 정렬 조건이 요청과 다릅니다.");
+        }
+
+        try {
+            return new KeysetCursor(parts[1], expectedDescending, untag(parts[4]), Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /** 마지막 정렬값을 기대 타입으로 반환 (null 허용, 타입이 다르면 400) */
+    public <T> T lastValueAs(Class<T> type) {
+        if (lastValue == null) return null;
+        if (!type.isInstance(lastValue)) {
+            throw new IllegalArgumentException("커서의 정렬값 타입이 올바르지 않습니다: " + sortField);
+        }
+        return type.cast(lastValue);
+    }
+
+    private static String tag(Object value) {
+        if (value == null) return "-";
+        if (value instanceof LocalDate date) return "D" + date;
+        if (value instanceof LocalDateTime dateTime) return "T" + dateTime;
+        if (value instanceof BigDecimal decimal) return "N" + decimal.toPlainString();
+        if (value instanceof Long number) return "L" + number;
+        if (value instanceof Integer number) return "I" + number;
+        if (value instanceof Boolean bool) return "B" + (bool ? '1' : '0');
+        if (value instanceof String text) return "S" + text;
+        throw new IllegalArgumentException("커서에 담을 수 없는 정렬값 타입입니다: " + value.getClass().getSimpleName());
+    }
+
+    private static Object untag(String tagged) {
+        if ("-".equals(tagged)) return null;
+        String body = tagged.substring(1);
+        return switch (tagged.charAt(0)) {
+            case 'D' -> LocalDate.parse(body);
+            case 'T' -> LocalDateTime.parse(body);
+            case 'N' -> new BigDecimal(body);
+            case 'L' -> Long.parseLong(body);
+            case 'I' -> Integer.parseInt(body);
+            case 'B' -> "1".equals(body);
+            case 'S' -> body;
+            default -> throw new IllegalArgumentException("알 수 없는 정렬값 타입입니다.");
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.codeit.findex.dto.data;
+
+/**
+ * 지수 하나의 최신 데이터와 N 거래일 전 데이터 묶음
+ * - before 는 데이터가 부족하면 null
+ */
+public record MajorIndexSnapshotDto(
+        MajorIndexDto latest,
+        MajorIndexDto before
+) {}
@@ -0,0 +1,9 @@
+package com.codeit.findex.dto.data;
+
+/**
+ * 분할 CSV 내보내기의 파티션 기준
+ */
+public enum PartitionBy {
+    INDEX,  // 지수별 파일
+    YEAR    // 기준일 연도별 파일
+}
@@ -0,0 +1,41 @@
+package com.codeit.findex.dto.data;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 지수 데이터 기간 집계(rollup) 단위 - 달력 기준 (주는 월요일 시작)
+ */
+public enum RollupPeriod {
+    WEEK("week"),
+    MONTH("month"),
+    YEAR("year");
+
+    private final String truncUnit; // PostgreSQL date_trunc 단위
+
+    RollupPeriod(String truncUnit) {
+        this.truncUnit = truncUnit;
+    }
+
+    public String truncUnit() {
+        return truncUnit;
+    }
+
+    /** date 가 속한 기간의 첫날 */
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case WEEK -> date.with(DayOfWeek.MONDAY);
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+
+    /** periodStart 다음 기간의 첫날 */
+    public LocalDate next(LocalDate periodStart) {
+        return switch (this) {
+            case WEEK -> periodStart.plusWeeks(1);
+            case MONTH -> periodStart.plusMonths(1);
+            case YEAR -> periodStart.plusYears(1);
+        };
+    }
+}
@@ -1,8 +1,8 @@
 package com.codeit.findex.dto.request;
 
+import com.codeit.findex.dto.data.CountStrategy;
 import org.springframework.format.annotation.DateTimeFormat;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 public record IndexDataSearchCondition(
@@ -12,7 +12,8 @@ public record IndexDataSearchCondition(
     String cursor,
     String sortField,
     String sortDirection,
-    Integer size
+    Integer size,
+    CountStrategy countStrategy // null 이면 설정값(findex.search.count-strategy) 사용
 ) {
     public IndexDataSearchCondition {
         if (sortField == null || sortField.isBlank()) {
@@ -27,43 +28,25 @@ public record IndexDataSearchCondition(
     }
 
     /**
-     * 커서에서 정렬 값을 추출
-     * 커서 형태: "sortValue_id" (예: "2850.75_20", "2023-12-31_15")
+     * 커서 디코딩 (KeysetCursor, 요청의 정렬 조건과 다르면 IllegalArgumentException)
+     * @return 커서가 없으면 null (첫 페이지)
      */
-    public Object getLastSortValue() {
-        if (cursor == null || cursor.isBlank() || !cursor.contains("_")) {
-            return null;
-        }
-        
-        try {
-            String sortValue = cursor.substring(0, cursor.lastIndexOf("_"));
-            
-            return switch (sortField) {
-                case "baseDate" -> LocalDate.parse(sortValue);
-                case "marketPrice", "closingPrice", "highPrice", "lowPrice", 
-                     "versus", "fluctuationRate" -> new BigDecimal(sortValue);
-                case "tradingQuantity", "tradingPrice", "marketTotalAmount" -> Long.parseLong(sortValue);
-                default -> null;
-            };
-        } catch (Exception e) {
-            return null;
-        }
+    public KeysetCursor keysetCursor() {
+        return KeysetCursor.decode(cursor, sortField, isDescending());
     }
 
     /**
-     * 커서에서 마지막 ID를 추출
+     * 지수만 바꾼 조건 (분할 내보내기용, 커서는 제외)
      */
-    public Long getLastId() {
-        if (cursor == null || cursor.isBlank() || !cursor.contains("_")) {
-            return null;
-        }
-        
-        try {
-            String idPart = cursor.substring(cursor.lastIndexOf("_") + 1);
-            return Long.parseLong(idPart);
-        } catch (Exception e) {
-            return null;
-        }
+    public IndexDataSearchCondition withIndexInfoId(Long indexInfoId) {
+        return new IndexDataSearchCondition(indexInfoId, startDate, endDate, null, sortField, sortDirection, size, countStrategy);
+    }
+
+    /**
+     * 기간만 바꾼 조건 (분할 내보내기용, 커서는 제외)
+     */
+    public IndexDataSearchCondition withDateRange(LocalDate startDate, LocalDate endDate) {
+        return new IndexDataSearchCondition(indexInfoId, startDate, endDate, null, sortField, sortDirection, size, countStrategy);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.codeit.findex.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
@@ -68,6 +69,14 @@ public class MarketIndexApiResponse {
         @JsonProperty("basDt")
         private String baseDate;
 
+        // 기준 날짜 (epoch day, 스트리밍 파싱 시 basDt 대신 채워짐)
+        @JsonIgnore
+        private Integer baseEpochDay;
+
+        // 기준 시점 (epoch day, 스트리밍 파싱 시 basPntm 대신 채워짐)
+        @JsonIgnore
+        private Integer basePointInTimeEpochDay;
+
         // 시가
         @JsonProperty("mkp")
         private BigDecimal marketPrice;
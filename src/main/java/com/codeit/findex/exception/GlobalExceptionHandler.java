@@ -23,6 +23,18 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    // OpenApi 장애 (연동 요청을 받지 않고 바로 실패)
+    @ExceptionHandler(OpenApiUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleOpenApiUnavailable(OpenApiUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of(
+                        "timestamp", Instant.now().toString(),
+                        "status", HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "message", "외부 API 를 사용할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                        "details", e.getMessage()
+                ));
+    }
+
     // 서버 오류 (예상치 못한 예외)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleServerError(Exception e) {
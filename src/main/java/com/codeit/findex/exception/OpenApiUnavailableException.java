@@ -0,0 +1,11 @@
+package com.codeit.findex.exception;
+
+/**
+ * OpenApi 장애로 호출하지 않고 바로 실패 (OpenApiCallPolicy 의 circuit breaker 가 열린 상태)
+ */
+public class OpenApiUnavailableException extends RuntimeException {
+
+    public OpenApiUnavailableException(String message) {
+        super(message);
+    }
+}
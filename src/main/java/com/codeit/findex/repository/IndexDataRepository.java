@@ -5,7 +5,6 @@ import com.codeit.findex.entity.IndexInfo;
 import com.codeit.findex.repository.custom.IndexDataRepositoryCustom;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,35 +13,10 @@ public interface IndexDataRepository extends JpaRepository<IndexData, Long>, Ind
 
     boolean existsByIndexInfoIdAndBaseDate(Long indexInfoId, LocalDate baseDate);
 
-    /**
-     * indexInfo와 indexData를 가져오는 한방쿼리
-     */
-    @Query("""
-        SELECT d
-        FROM IndexData d
-            JOIN FETCH d.indexInfo i
-            WHERE i.id IN :indexInfoIds
-    """)
-    List<IndexData> findByIndexInfoIds(List<Long> indexInfoIds);
-
-    @Query("""
-        SELECT d
-        FROM IndexData d
-        JOIN FETCH d.indexInfo i
-        WHERE i.id = :indexInfoId
-          AND d.baseDate = (
-              SELECT MAX(d2.baseDate)
-              FROM IndexData d2
-              WHERE d2.indexInfo.id = i.id
-          )
-    """)
-    Optional<IndexData> findLatestByIndexInfoId(Long indexInfoId);
-
-    @Query("select d.baseDate from IndexData d where d.indexInfo.id = :indexInfoId and d.baseDate in :dates")
-    List<LocalDate> findExistingDates(Long indexInfoId, List<LocalDate> dates);
-
-    @Query("select distinct d.indexInfo.id from IndexData d")
+    // index_data 전체(모든 파티션)를 훑는 DISTINCT 대신 지수별 uq_index_data 인덱스 존재 확인
+    @Query("select i.id from IndexInfo i where exists (select 1 from IndexData d where d.indexInfo.id = i.id)")
     List<Long> findDistinctIndexInfoIds();
 
-    List<IndexData> findByIndexInfo_IdIn(List<Long> indexInfoIds);
+    // 기준일 조건이 있어야 해당 연도 파티션만 조회
+    List<IndexData> findByIndexInfo_IdInAndBaseDateBetween(List<Long> indexInfoIds, LocalDate from, LocalDate to);
 }
\ No newline at end of file
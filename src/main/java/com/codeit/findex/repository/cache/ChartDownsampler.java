@@ -0,0 +1,78 @@
+package com.codeit.findex.repository.cache;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Largest-Triangle-Three-Buckets(LTTB) 다운샘플링
+ * - 시계열의 모양(고점/저점)을 최대한 유지하면서 maxPoints 개의 행만 고름
+ * - 객체를 만들지 않고 IndexDataSeries 의 primitive 배열 위에서 행 번호만 계산
+ */
+public final class ChartDownsampler {
+
+    private ChartDownsampler() {
+    }
+
+    /**
+     * series 의 [from, to) 구간 중 종가가 있는 행을 maxPoints 개 이하로 줄여서 행 번호를 반환
+     * - 첫 행과 마지막 행은 항상 포함
+     * - maxPoints 가 구간 크기 이상이면 구간의 모든 행을 그대로 반환
+     */
+    public static int[] select(IndexDataSeries series, int from, int to, int maxPoints) {
+        if (maxPoints < 3) throw new IllegalArgumentException("maxPoints 는 3 이상이어야 합니다: " + maxPoints);
+        if (to - from <= maxPoints) return IntStream.range(from, to).toArray();
+
+        // 1. 종가가 없는 행은 제외
+        int[] rows = new int[Math.max(0, to - from)];
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            if (series.closingPrice(i) != IndexDataSeries.NULL_VALUE) rows[n++] = i;
+        }
+        if (n <= maxPoints) return Arrays.copyOf(rows, n);
+
+        // 2. 첫/마지막 행을 뺀 나머지를 (maxPoints - 2)개 버킷으로 나누고, 버킷마다 삼각형 넓이가 가장 큰 행을 고름
+        int[] selected = new int[maxPoints];
+        int count = 0;
+        double bucketSize = (double) (n - 2) / (maxPoints - 2);
+
+        int a = 0; // 직전에 선택한 점 (rows 기준)
+        selected[count++] = rows[0];
+
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            // 다음 버킷의 평균점
+            int nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, n);
+            double avgX = 0, avgY = 0;
+            for (int j = nextStart; j < nextEnd; j++) {
+                avgX += series.epochDay(rows[j]);
+                avgY += series.closingPrice(rows[j]);
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            // 현재 버킷에서 (직전 선택점, 후보, 다음 버킷 평균) 삼각형 넓이가 최대인 점
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+            double ax = series.epochDay(rows[a]);
+            double ay = series.closingPrice(rows[a]);
+
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int j = start; j < end; j++) {
+                double area = Math.abs((ax - avgX) * (series.closingPrice(rows[j]) - ay)
+                        - (ax - series.epochDay(rows[j])) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = j;
+                }
+            }
+
+            selected[count++] = rows[maxIndex];
+            a = maxIndex;
+        }
+
+        selected[count++] = rows[n - 1];
+        return selected;
+    }
+}
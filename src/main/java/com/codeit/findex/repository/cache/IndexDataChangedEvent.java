@@ -0,0 +1,11 @@
+package com.codeit.findex.repository.cache;
+
+/**
+ * 지수 데이터가 생성/수정/삭제되어 캐시에서 비워졌을 때 발행되는 이벤트
+ * - 캐시된 시계열로 만든 파생 데이터(순위 등)를 갱신할 때 사용
+ * - indexInfoDeleted: 지수 정보 자체가 삭제됨 (파생 데이터에서 바로 제거)
+ */
+public record IndexDataChangedEvent(
+        Long indexInfoId,
+        boolean indexInfoDeleted
+) {}
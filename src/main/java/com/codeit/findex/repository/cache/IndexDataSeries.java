@@ -0,0 +1,205 @@
+package com.codeit.findex.repository.cache;
+
+import com.codeit.findex.dto.data.MajorIndexDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 지수 하나의 전체 시계열 (base_date 오름차순)
+ * - 행마다 객체를 만들지 않고 컬럼별 primitive 배열로 보관
+ * - 가격/대비/등락률은 소수점 4자리(NUMERIC(?, 4))를 long 으로 스케일해서 저장
+ * - 값이 없으면(null) NULL_VALUE
+ * - 종가 이동평균은 시계열을 만들 때 설정된 기간(window)별로 한 번만 계산해서 보관
+ *   (적재 시 전체 기간을 누적합으로 O(n) 계산, 데이터가 바뀌면 캐시가 비워지고 다음 조회 때 다시 계산 →
+ *   연동 중에 기간별 합을 따로 유지하지 않음, 차트 조회는 계산된 값을 점 개수만큼만 읽음)
+ */
+public final class IndexDataSeries {
+
+    public static final int SCALE = 4;
+    public static final long NULL_VALUE = Long.MIN_VALUE;
+
+    private final Long indexInfoId;
+    private final String indexClassification;
+    private final String indexName;
+
+    private final int size;
+    private final int[] epochDays;
+    private final long[] marketPrices;
+    private final long[] closingPrices;
+    private final long[] highPrices;
+    private final long[] lowPrices;
+    private final long[] versus;
+    private final long[] fluctuationRates;
+    private final long[] tradingQuantities;
+    private final long[] tradingPrices;
+    private final long[] marketTotalAmounts;
+
+    private final int[] movingAverageWindows;
+    private final long[][] movingAverages; // [window 순번][행] 스케일된 종가 이동평균
+
+    private IndexDataSeries(Builder builder, int[] movingAverageWindows) {
+        this.indexInfoId = builder.indexInfoId;
+        this.indexClassification = builder.indexClassification;
+        this.indexName = builder.indexName;
+        this.size = builder.size;
+        this.epochDays = Arrays.copyOf(builder.epochDays, size);
+        this.marketPrices = Arrays.copyOf(builder.marketPrices, size);
+        this.closingPrices = Arrays.copyOf(builder.closingPrices, size);
+        this.highPrices = Arrays.copyOf(builder.highPrices, size);
+        this.lowPrices = Arrays.copyOf(builder.lowPrices, size);
+        this.versus = Arrays.copyOf(builder.versus, size);
+        this.fluctuationRates = Arrays.copyOf(builder.fluctuationRates, size);
+        this.tradingQuantities = Arrays.copyOf(builder.tradingQuantities, size);
+        this.tradingPrices = Arrays.copyOf(builder.tradingPrices, size);
+        this.marketTotalAmounts = Arrays.copyOf(builder.marketTotalAmounts, size);
+
+        this.movingAverageWindows = movingAverageWindows.clone();
+        this.movingAverages = new long[movingAverageWindows.length][];
+        for (int w = 0; w < movingAverageWindows.length; w++) {
+            this.movingAverages[w] = rollingAverage(closingPrices, size, movingAverageWindows[w]);
+        }
+    }
+
+    /**
+     * 누적합으로 window 기간 이동평균 계산 (O(n))
+     * - 앞쪽에 window 개 만큼의 데이터가 쌓이기 전이나, 구간에 종가가 없는 날이 있으면 NULL_VALUE
+     */
+    private static long[] rollingAverage(long[] values, int size, int window) {
+        long[] averages = new long[size];
+        long sum = 0;
+        int present = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != NULL_VALUE) { sum += values[i]; present++; }
+            if (i >= window && values[i - window] != NULL_VALUE) { sum -= values[i - window]; present--; }
+
+            averages[i] = (i >= window - 1 && present == window)
+                    ? BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(window), 0, RoundingMode.HALF_UP).longValue()
+                    : NULL_VALUE;
+        }
+        return averages;
+    }
+
+    public Long indexInfoId() { return indexInfoId; }
+    public String indexClassification() { return indexClassification; }
+    public String indexName() { return indexName; }
+    public int size() { return size; }
+
+    public int epochDay(int i) { return epochDays[i]; }
+    public long marketPrice(int i) { return marketPrices[i]; }
+    public long closingPrice(int i) { return closingPrices[i]; }
+    public long highPrice(int i) { return highPrices[i]; }
+    public long lowPrice(int i) { return lowPrices[i]; }
+    public long versus(int i) { return versus[i]; }
+    public long fluctuationRate(int i) { return fluctuationRates[i]; }
+    public long tradingQuantity(int i) { return tradingQuantities[i]; }
+    public long tradingPrice(int i) { return tradingPrices[i]; }
+    public long marketTotalAmount(int i) { return marketTotalAmounts[i]; }
+
+    /** 계산해 둔 이동평균 기간 목록 (설정 순서) */
+    public int[] movingAverageWindows() { return movingAverageWindows.clone(); }
+
+    /** i 번째 행의 window 기간 종가 이동평균 (스케일된 값, 계산되지 않은 window 면 예외) */
+    public long movingAverage(int window, int i) {
+        for (int w = 0; w < movingAverageWindows.length; w++) {
+            if (movingAverageWindows[w] == window) return movingAverages[w][i];
+        }
+        throw new IllegalArgumentException("계산되지 않은 이동평균 기간입니다: " + window);
+    }
+
+    public LocalDate baseDate(int i) {
+        return LocalDate.ofEpochDay(epochDays[i]);
+    }
+
+    /** epochDay 이상인 첫 번째 위치 (없으면 size) */
+    public int lowerBound(int epochDay) {
+        int index = Arrays.binarySearch(epochDays, 0, size, epochDay);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /** i 번째 행을 대시보드용 DTO 로 변환 */
+    public MajorIndexDto toMajorIndexDto(int i) {
+        return MajorIndexDto.builder()
+                .indexInfoId(indexInfoId)
+                .indexClassification(indexClassification)
+                .indexName(indexName)
+                .baseDate(baseDate(i))
+                .versus(toDecimal(versus[i]))
+                .fluctuationRate(toDecimal(fluctuationRates[i]))
+                .closingPrice(toDecimal(closingPrices[i]))
+                .build();
+    }
+
+    public static long toScaled(BigDecimal value) {
+        return value == null ? NULL_VALUE : value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long scaled) {
+        return scaled == NULL_VALUE ? null : BigDecimal.valueOf(scaled, SCALE);
+    }
+
+    /** 정렬된 순서(base_date 오름차순)로 행을 추가해서 시계열을 만드는 빌더 */
+    public static final class Builder {
+
+        private final Long indexInfoId;
+        private final String indexClassification;
+        private final String indexName;
+
+        private int size;
+        private int[] epochDays = new int[64];
+        private long[] marketPrices = new long[64];
+        private long[] closingPrices = new long[64];
+        private long[] highPrices = new long[64];
+        private long[] lowPrices = new long[64];
+        private long[] versus = new long[64];
+        private long[] fluctuationRates = new long[64];
+        private long[] tradingQuantities = new long[64];
+        private long[] tradingPrices = new long[64];
+        private long[] marketTotalAmounts = new long[64];
+
+        public Builder(Long indexInfoId, String indexClassification, String indexName) {
+            this.indexInfoId = indexInfoId;
+            this.indexClassification = indexClassification;
+            this.indexName = indexName;
+        }
+
+        public Builder add(int epochDay, BigDecimal marketPrice, BigDecimal closingPrice, BigDecimal highPrice,
+                           BigDecimal lowPrice, BigDecimal versus, BigDecimal fluctuationRate,
+                           Long tradingQuantity, Long tradingPrice, Long marketTotalAmount) {
+            if (size == epochDays.length) grow();
+            this.epochDays[size] = epochDay;
+            this.marketPrices[size] = toScaled(marketPrice);
+            this.closingPrices[size] = toScaled(closingPrice);
+            this.highPrices[size] = toScaled(highPrice);
+            this.lowPrices[size] = toScaled(lowPrice);
+            this.versus[size] = toScaled(versus);
+            this.fluctuationRates[size] = toScaled(fluctuationRate);
+            this.tradingQuantities[size] = tradingQuantity == null ? NULL_VALUE : tradingQuantity;
+            this.tradingPrices[size] = tradingPrice == null ? NULL_VALUE : tradingPrice;
+            this.marketTotalAmounts[size] = marketTotalAmount == null ? NULL_VALUE : marketTotalAmount;
+            size++;
+            return this;
+        }
+
+        /** @param movingAverageWindows 미리 계산할 이동평균 기간 목록 */
+        public IndexDataSeries build(int[] movingAverageWindows) {
+            return new IndexDataSeries(this, movingAverageWindows);
+        }
+
+        private void grow() {
+            int capacity = epochDays.length * 2;
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            marketPrices = Arrays.copyOf(marketPrices, capacity);
+            closingPrices = Arrays.copyOf(closingPrices, capacity);
+            highPrices = Arrays.copyOf(highPrices, capacity);
+            lowPrices = Arrays.copyOf(lowPrices, capacity);
+            versus = Arrays.copyOf(versus, capacity);
+            fluctuationRates = Arrays.copyOf(fluctuationRates, capacity);
+            tradingQuantities = Arrays.copyOf(tradingQuantities, capacity);
+            tradingPrices = Arrays.copyOf(tradingPrices, capacity);
+            marketTotalAmounts = Arrays.copyOf(marketTotalAmounts, capacity);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.codeit.findex.repository.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * 지수별 시계열(IndexDataSeries) 읽기 전용 캐시
+ * - index_data 는 자정 연동 이후에만 바뀌므로 차트/순위/주요 지수 조회를 DB 대신 메모리에서 처리
+ * - 지수별로 처음 조회될 때 적재하고, 해당 지수 데이터가 생성/수정/삭제되면 invalidate
+ * - invalidate/remove 되면 IndexDataChangedEvent 발행
+ * - 지수 수가 max-entries 를 넘으면 가장 오래 조회되지 않은 지수부터 비움 (다음 조회 때 다시 적재)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexDataSeriesCache {
+
+    private static final String INFO_SQL = """
+            SELECT id, index_classification, index_name
+            FROM index_infos
+            WHERE id IN (:indexInfoIds)
+            """;
+
+    // base_date 하한 없음 (모든 연도 파티션을 읽음): 차트 ALL 기간과 시작일 이전까지 반영한 이동평균에 전체 시계열이 필요
+    // 지수마다 처음 조회될 때와 데이터가 바뀐 뒤 한 번만 실행되고, 이후 조회는 메모리에서 처리
+    private static final String SERIES_SQL = """
+            SELECT index_info_id, base_date, market_price, closing_price, high_price, low_price,
+                   versus, fluctuation_rate, trading_quantity, trading_price, market_total_amount
+            FROM index_data
+            WHERE index_info_id IN (:indexInfoIds)
+            ORDER BY index_info_id, base_date
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 시계열 적재 시 미리 계산할 종가 이동평균 기간 (차트에서 쓰는 5, 20 은 항상 포함)
+    @Value("${findex.chart.moving-average-windows:5,20,60,120}")
+    private int[] movingAverageWindows;
+
+    // 캐시에 둘 최대 지수 수 (지수 하나가 전체 기간 시계열을 가지므로 개수로 메모리 상한을 정함)
+    @Value("${findex.chart.series-cache-max-entries:200}")
+    private int maxEntries;
+
+    // 지수별 적재 결과 (적재 중이면 미완료 future → 같은 지수를 동시에 요청해도 한 번만 적재)
+    // evict 는 항목을 지우므로, 적재가 끝났을 때 맵에 남아 있는 항목이 곧 그 지수의 최신 버전
+    private final Map<Long, Entry> seriesById = new ConcurrentHashMap<>();
+    private final AtomicLong accessClock = new AtomicLong(); // 최근 조회 순서 (LRU)
+
+    private static final class Entry {
+        private final CompletableFuture<IndexDataSeries> future = new CompletableFuture<>();
+        private volatile long lastAccess;
+    }
+
+    /** 지수 하나의 시계열 (지수 정보가 없으면 null) */
+    public IndexDataSeries get(Long indexInfoId) {
+        return getAll(List.of(indexInfoId)).get(indexInfoId);
+    }
+
+    /**
+     * 여러 지수의 시계열 (요청 순서 유지, 지수 정보가 없는 id 는 제외)
+     * - 캐시에 없는 지수들은 쿼리 2번으로 한꺼번에 적재
+     */
+    public Map<Long, IndexDataSeries> getAll(Collection<Long> indexInfoIds) {
+        Map<Long, CompletableFuture<IndexDataSeries>> futures = new LinkedHashMap<>();
+        Map<Long, Entry> owned = new LinkedHashMap<>(); // 이 호출이 적재를 맡은 지수
+        for (Long id : indexInfoIds) {
+            if (futures.containsKey(id)) continue;
+            Entry entry = seriesById.computeIfAbsent(id, key -> {
+                Entry created = new Entry();
+                owned.put(key, created);
+                return created;
+            });
+            entry.lastAccess = accessClock.incrementAndGet();
+            futures.put(id, entry.future);
+        }
+
+        if (!owned.isEmpty()) {
+            loadInto(owned);
+            evictLeastRecentlyUsed();
+        }
+
+        Map<Long, IndexDataSeries> result = new LinkedHashMap<>();
+        futures.forEach((id, future) -> {
+            IndexDataSeries series = await(future);
+            if (series != null) result.put(id, series);
+        });
+        return result;
+    }
+
+    /** 이미 적재된 지수의 시계열만 (캐시에 없는 id 는 적재하지 않고 제외) */
+    public Map<Long, IndexDataSeries> getAllIfPresent(Collection<Long> indexInfoIds) {
+        Map<Long, IndexDataSeries> result = new LinkedHashMap<>();
+        for (Long id : indexInfoIds) {
+            Entry entry = seriesById.get(id);
+            if (entry == null || !entry.future.isDone() || entry.future.isCompletedExceptionally()) continue;
+            entry.lastAccess = accessClock.incrementAndGet();
+            IndexDataSeries series = entry.future.join();
+            if (series != null) result.put(id, series);
+        }
+        return result;
+    }
+
+    /** 지수 데이터 변경 시 호출 (트랜잭션 중이면 커밋 이후에 비움) */
+    public void invalidate(Long indexInfoId) {
+        afterCommit(() -> evict(indexInfoId, false));
+    }
+
+    public void invalidateAll(Collection<Long> indexInfoIds) {
+        indexInfoIds.forEach(this::invalidate);
+    }
+
+    /** 지수 정보 삭제 시 호출 (트랜잭션 중이면 커밋 이후에 비움, 순위 등 파생 데이터에서도 제거) */
+    public void remove(Long indexInfoId) {
+        afterCommit(() -> evict(indexInfoId, true));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private void evict(Long indexInfoId, boolean indexInfoDeleted) {
+        seriesById.remove(indexInfoId); // 적재 중이던 future 도 함께 지워져 그 결과는 캐시에 남지 않음
+        eventPublisher.publishEvent(new IndexDataChangedEvent(indexInfoId, indexInfoDeleted));
+    }
+
+    /**
+     * max-entries 를 넘은 만큼 가장 오래 조회되지 않은 지수를 비움
+     * - 적재 중인 항목은 제외 (기다리는 요청이 있음)
+     * - 데이터가 바뀐 것이 아니므로 IndexDataChangedEvent 는 발행하지 않음
+     */
+    private void evictLeastRecentlyUsed() {
+        int excess = seriesById.size() - Math.max(1, maxEntries);
+        if (excess <= 0) return;
+
+        seriesById.entrySet().stream()
+                .filter(entry -> entry.getValue().future.isDone())
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                .limit(excess)
+                .toList()
+                .forEach(entry -> seriesById.remove(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * 이 호출이 맡은 지수들을 한꺼번에 적재해 future 를 완료
+     * - 지수 정보가 없거나 적재에 실패한 지수는 맵에서 빼서 다음 조회 때 다시 적재
+     */
+    private void loadInto(Map<Long, Entry> owned) {
+        Map<Long, IndexDataSeries> loaded;
+        try {
+            loaded = load(List.copyOf(owned.keySet()));
+        } catch (RuntimeException e) {
+            owned.forEach((id, entry) -> {
+                seriesById.remove(id, entry);
+                entry.future.completeExceptionally(e);
+            });
+            throw e;
+        }
+        owned.forEach((id, entry) -> {
+            IndexDataSeries series = loaded.get(id);
+            if (series == null) seriesById.remove(id, entry);
+            entry.future.complete(series);
+        });
+    }
+
+    // 다른 요청이 적재 중인 지수는 끝날 때까지 대기 (virtual thread 에서도 carrier 를 붙잡지 않음)
+    private static IndexDataSeries await(CompletableFuture<IndexDataSeries> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private Map<Long, IndexDataSeries> load(List<Long> indexInfoIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("indexInfoIds", indexInfoIds);
+
+        // 1. 지수 정보 (존재하는 지수만 빌더 생성)
+        Map<Long, IndexDataSeries.Builder> builders = new HashMap<>();
+        namedParameterJdbcTemplate.query(INFO_SQL, params, rs -> {
+            long id = rs.getLong("id");
+            builders.put(id, new IndexDataSeries.Builder(id, rs.getString("index_classification"), rs.getString("index_name")));
+        });
+
+        // 2. 지수 데이터 (지수별 base_date 오름차순)
+        namedParameterJdbcTemplate.query(SERIES_SQL, params, rs -> {
+            IndexDataSeries.Builder builder = builders.get(rs.getLong("index_info_id"));
+            if (builder == null) return;
+            builder.add(
+                    (int) rs.getObject("base_date", LocalDate.class).toEpochDay(),
+                    rs.getBigDecimal("market_price"),
+                    rs.getBigDecimal("closing_price"),
+                    rs.getBigDecimal("high_price"),
+                    rs.getBigDecimal("low_price"),
+                    rs.getBigDecimal("versus"),
+                    rs.getBigDecimal("fluctuation_rate"),
+                    rs.getObject("trading_quantity", Long.class),
+                    rs.getObject("trading_price", Long.class),
+                    rs.getObject("market_total_amount", Long.class));
+        });
+
+        int[] windows = IntStream.concat(IntStream.of(5, 20), Arrays.stream(movingAverageWindows))
+                .filter(window -> window > 0)
+                .distinct()
+                .toArray();
+
+        Map<Long, IndexDataSeries> loaded = new HashMap<>();
+        builders.forEach((id, builder) -> loaded.put(id, builder.build(windows)));
+        log.debug("[IndexDataSeriesCache] loaded {} series", loaded.size());
+        return loaded;
+    }
+}
@@ -0,0 +1,49 @@
+package com.codeit.findex.repository.cursor;
+
+import com.codeit.findex.dto.data.KeysetCursor;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+
+/**
+ * KeysetCursor → QueryDSL 조건/정렬 변환
+ * - 정렬은 항상 (정렬 컬럼, id) 같은 방향 → 조건을 행 값 비교 (col, id) > (?, ?) 로 표현할 수 있고
+ *   PostgreSQL 이 (col, id) 복합 인덱스 범위 스캔으로 처리
+ * - nullable 컬럼은 NULL 을 가장 큰 값으로 취급 (오름차순 NULLS LAST, 내림차순 NULLS FIRST)
+ *   → PostgreSQL btree 기본 순서와 같아서 (col, id) 인덱스 하나로 양방향 정렬을 모두 처리
+ */
+public final class KeysetPredicates {
+
+    private KeysetPredicates() {
+    }
+
+    /** 커서 다음 행 조건 (커서가 없으면 null → BooleanBuilder.and 에서 무시됨) */
+    public static BooleanExpression after(ComparableExpressionBase<?> column, NumberPath<Long> id,
+                                          KeysetCursor cursor, boolean nullable) {
+        if (cursor == null) return null;
+
+        BooleanExpression idAfter = cursor.descending() ? id.lt(cursor.lastId()) : id.gt(cursor.lastId());
+        if (cursor.lastValue() == null) {
+            // NULL 구간 안에서는 id 로만 이어감 (내림차순이면 NULL 구간 뒤에 NULL 이 아닌 행 전체)
+            BooleanExpression inNulls = column.isNull().and(idAfter);
+            return cursor.descending() ? inNulls.or(column.isNotNull()) : inNulls;
+        }
+
+        BooleanExpression rowValueAfter = Expressions.booleanTemplate(
+                // 행 값 비교와 같은 뜻인 단순 범위 조건을 함께 붙여서 base_date 파티션 pruning 이 되도록 함
+                cursor.descending() ? "({0} <= {2} and ({0}, {1}) < ({2}, {3}))" : "({0} >= {2} and ({0}, {1}) > ({2}, {3}))",
+                column, id, Expressions.constant(cursor.lastValue()), Expressions.constant(cursor.lastId()));
+        // 오름차순이면 NULL 구간이 아직 남아 있음, 내림차순이면 이미 지나감
+        return nullable && !cursor.descending() ? rowValueAfter.or(column.isNull()) : rowValueAfter;
+    }
+
+    /** (정렬 컬럼, id) 정렬 */
+    public static OrderSpecifier<?>[] orderBy(ComparableExpressionBase<?> column, NumberPath<Long> id,
+                                              boolean descending, boolean nullable) {
+        OrderSpecifier<?> primary = descending ? column.desc() : column.asc();
+        if (nullable) primary = descending ? primary.nullsFirst() : primary.nullsLast();
+        return new OrderSpecifier<?>[]{primary, descending ? id.desc() : id.asc()};
+    }
+}
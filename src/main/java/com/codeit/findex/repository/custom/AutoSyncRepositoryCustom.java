@@ -1,5 +1,6 @@
 package com.codeit.findex.repository.custom;
 
+import com.codeit.findex.dto.data.KeysetCursor;
 import com.codeit.findex.entity.AutoSync;
 import org.springframework.data.domain.Slice;
 
@@ -9,8 +10,7 @@ public interface AutoSyncRepositoryCustom { // 확장용 커스텀 리포지토
                                Boolean enabled,    // 활성화 필터 (nullable)
                                String sortField,   // "indexInfo.indexName" | "enabled"
                                boolean asc,        // 오름차순 여부
-                               Object cursorValue, // 마지막 정렬값 (String or Boolean) – null이면 첫 페이지
-                               Long idAfter,       // 마지막 ID – null이면 첫 페이지
+                               KeysetCursor cursor, // 마지막 정렬값 + 마지막 ID – null이면 첫 페이지
                                int size            // 페이지 크기 (size+1 로 조회하여 hasNext 판정)
     );
 
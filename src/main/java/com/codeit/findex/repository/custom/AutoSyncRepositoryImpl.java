@@ -1,5 +1,6 @@
 package com.codeit.findex.repository.custom;
 
+import com.codeit.findex.dto.data.KeysetCursor;
 import com.codeit.findex.entity.AutoSync;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -23,8 +24,7 @@ public class AutoSyncRepositoryImpl implements AutoSyncRepositoryCustom { // 커
                                       Boolean enabled,          // 활성화 필터
                                       String sortField,         // 정렬 필드 (화이트리스트 전제)
                                       boolean asc,              // 오름차순 여부
-                                      Object cursorValue,       // 마지막 정렬값 (문자열 or 불리언)
-                                      Long idAfter,             // 마지막 ID
+                                      KeysetCursor cursor,      // 마지막 정렬값 + 마지막 ID (null 이면 첫 페이지)
                                       int size                  // 페이지 크기
     ) {
         // ===== 1) 기본 SELECT (N+1 방지 위해 indexInfo 조인 페치) =====
@@ -42,21 +42,10 @@ public class AutoSyncRepositoryImpl implements AutoSyncRepositoryCustom { // 커
             where.add("a.enabled = :enabled");  // a.enabled 조건 추가
         }
 
-        // 커서가 있는 경우에만 keyset 경계 조건을 추가한다
-        if (cursorValue != null || idAfter != null) { // 최소 하나라도 있으면 경계 조건 구성
-            if ("enabled".equals(sortField)) {        // 불리언 정렬 케이스
-                if (asc) {                            // 오름차순일 때
-                    where.add("( (a.enabled > :cval) or (a.enabled = :cval and a.id > :cid) )"); // keyset 이후
-                } else {
-                    where.add("( (a.enabled < :cval) or (a.enabled = :cval and a.id < :cid) )"); // 내림차순용
-                }
-            } else {                                   // "indexInfo.indexName" 문자열 정렬 케이스
-                if (asc) {
-                    where.add("( (i.indexName > :cval) or (i.indexName = :cval and a.id > :cid) )"); // 사전순 asc
-                } else {
-                    where.add("( (i.indexName < :cval) or (i.indexName = :cval and a.id < :cid) )"); // 사전순 desc
-                }
-            }
+        // 커서가 있는 경우에만 keyset 경계 조건을 추가한다: (정렬값, id) 행 값 비교
+        String sortPath = "enabled".equals(sortField) ? "a.enabled" : "i.indexName"; // 정렬 컬럼
+        if (cursor != null) {                          // 커서가 있으면 경계 조건 구성
+            where.add("(" + sortPath + ", a.id) " + (asc ? ">" : "<") + " (:cval, :cid)"); // 정렬 방향과 같은 방향으로 비교
         }
 
         // where 절이 하나 이상이면 "where" 키워드로 연결한다
@@ -66,14 +55,9 @@ public class AutoSyncRepositoryImpl implements AutoSyncRepositoryCustom { // 커
                     .append(" ");                          // 한 칸 공백
         }
 
-        // ===== 3) ORDER BY (정렬 방향 + tie-breaker id) =====
-        if ("enabled".equals(sortField)) {             // 불리언 정렬이면
-            jpql.append("order by a.enabled ");        // enabled 우선 정렬
-        } else {
-            jpql.append("order by i.indexName ");      // indexName 우선 정렬
-        }
-        jpql.append(asc ? "asc " : "desc ");           // 방향 지정
-        jpql.append(", a.id ").append(asc ? "asc " : "desc "); // 동점자 안정화용 id 정렬
+        // ===== 3) ORDER BY (정렬 방향 + tie-breaker id, 같은 방향이어야 행 값 비교와 순서가 일치) =====
+        jpql.append("order by ").append(sortPath).append(asc ? " asc" : " desc"); // 정렬 필드 우선
+        jpql.append(", a.id ").append(asc ? "asc " : "desc ");       // 동점자 안정화용 id 정렬
 
         // ===== 4) 쿼리 생성 및 파라미터 바인딩 =====
         TypedQuery<AutoSync> query = em.createQuery(jpql.toString(), AutoSync.class); // JPQL → TypedQuery
@@ -84,15 +68,15 @@ public class AutoSyncRepositoryImpl implements AutoSyncRepositoryCustom { // 커
         if (enabled != null) {                         // 활성화 필터 바인딩
             query.setParameter("enabled", enabled);    // 파라미터 설정
         }
-        if (cursorValue != null || idAfter != null) {  // 커서 경계 파라미터 바인딩
-            Object cval = cursorValue;                 // cval = 정렬 필드의 마지막 값
-            if (cval == null) {                        // 값이 null이면
-                // 정렬 타입별로 가장 작은(또는 큰) 값을 대신 넣어 비교의 기준을 잡는다
-                cval = "enabled".equals(sortField) ? Boolean.FALSE : ""; // asc 기준 최소값
+        if (cursor != null) {                          // 커서 경계 파라미터 바인딩 (정렬 필드별 타입 검증)
+            Object cval = "enabled".equals(sortField)
+                    ? cursor.lastValueAs(Boolean.class)
+                    : cursor.lastValueAs(String.class);
+            if (cval == null) {                        // 정렬 컬럼은 NULL 이 없으므로 null 커서는 잘못된 값
+                throw new IllegalArgumentException("잘못된 커서입니다.");
             }
-            long cid = (idAfter == null ? (asc ? Long.MIN_VALUE : Long.MAX_VALUE) : idAfter); // id 경계값
             query.setParameter("cval", cval);          // 정렬값 파라미터
-            query.setParameter("cid", cid);            // id 파라미터
+            query.setParameter("cid", cursor.lastId()); // id 파라미터
         }
 
         // ===== 5) size+1로 조회하여 hasNext 판단 =====
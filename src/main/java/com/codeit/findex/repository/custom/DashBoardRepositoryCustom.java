@@ -2,26 +2,14 @@ package com.codeit.findex.repository.custom;
 
 import com.codeit.findex.dto.data.ChartPeriodType;
 import com.codeit.findex.dto.data.IndexChartDto;
-import com.codeit.findex.dto.data.MajorIndexDto;
+import com.codeit.findex.dto.data.MajorIndexSnapshotDto;
 
 import java.util.List;
 
 public interface DashBoardRepositoryCustom {
-    List<MajorIndexDto> getFavoriteMajorIndexData(int month);
+    // maxPoints 보다 데이터가 많으면 LTTB 로 다운샘플링
+    IndexChartDto findIndexChartData(Long indexInfoId, ChartPeriodType periodType, int maxPoints);
 
-    IndexChartDto findIndexChartData(Long indexInfoId, ChartPeriodType periodType);
-
-    List<MajorIndexDto> getCurrentAndPreviousMonthData(int month);
-
-    // 최신 데이터
-    MajorIndexDto getLatestMajorIndexData(Long indexInfoId);
-
-    // 하루 전 데이터
-    MajorIndexDto getBeforeDayMajorIndexData(Long indexInfoId);
-
-    // 일주일 전 데이터
-    MajorIndexDto getBeforeWeekMajorIndexData(Long indexInfoId);
-
-    // 한달 전 데이터
-    MajorIndexDto getBeforeMonthMajorIndexData(Long indexInfoId);
+    // 여러 지수의 최신 데이터 + offset 거래일 전 데이터를 한 번에 조회
+    List<MajorIndexSnapshotDto> getMajorIndexSnapshots(List<Long> indexInfoIds, int offset);
 }
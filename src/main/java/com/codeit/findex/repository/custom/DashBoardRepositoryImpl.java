@@ -1,25 +1,25 @@
 package com.codeit.findex.repository.custom;
 
 import com.codeit.findex.dto.data.MajorIndexDto;
-import com.codeit.findex.entity.QIndexData;
-import com.codeit.findex.entity.QIndexInfo;
-import static com.codeit.findex.entity.QIndexData.indexData;
+import com.codeit.findex.dto.data.MajorIndexSnapshotDto;
 
 import com.codeit.findex.dto.data.ChartDataPoint;
-import com.codeit.findex.dto.data.ChartDataRow;
 import com.codeit.findex.dto.data.ChartPeriodType;
 import com.codeit.findex.dto.data.IndexChartDto;
-import com.codeit.findex.entity.IndexInfo;
-import com.codeit.findex.repository.IndexInfoRepository;
-import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberTemplate;
-import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.math.BigDecimal;
+import com.codeit.findex.repository.cache.ChartDownsampler;
+import com.codeit.findex.repository.cache.IndexDataSeries;
+import com.codeit.findex.repository.cache.IndexDataSeriesCache;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -28,229 +28,179 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DashBoardRepositoryImpl implements DashBoardRepositoryCustom {
 
-    private final JPAQueryFactory queryFactory;
-    private final IndexInfoRepository indexInfoRepository;
+    private final IndexDataSeriesCache seriesCache;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 캐시에 없는 지수의 최신/이전 행을 찾을 때 최근 며칠만 조회할지 (offset 거래일보다 넉넉하게)
+    @Value("${findex.dashboard.snapshot-lookback-days:31}")
+    private int snapshotLookbackDays;
+
+    /**
+     * 지수별로 base_date 내림차순 순번을 매겨 1번(최신)과 offset+1번(offset 거래일 전)만 남김
+     * - uq_index_data (index_info_id, base_date) 인덱스로 지수별 정렬을 처리
+     * - 시계열 캐시에 없는 지수용 (전체 시계열을 적재하지 않고 두 행만 조회)
+     * - %s: base_date 하한 (최근 연도 파티션만 읽도록)
+     */
+    private static final String MAJOR_INDEX_SNAPSHOT_SQL_TEMPLATE = """
+            SELECT r.index_info_id, i.index_classification, i.index_name,
+                   r.base_date, r.versus, r.fluctuation_rate, r.closing_price, r.rn
+            FROM (
+                SELECT d.index_info_id, d.base_date, d.versus, d.fluctuation_rate, d.closing_price,
+                       ROW_NUMBER() OVER (PARTITION BY d.index_info_id ORDER BY d.base_date DESC) AS rn
+                FROM index_data d
+                WHERE d.index_info_id IN (:indexInfoIds) %s
+            ) r
+            JOIN index_infos i ON i.id = r.index_info_id
+            WHERE r.rn IN (1, :beforeRowNumber)
+            """;
+
+    // 실행 계획 테스트(QueryIndexUsageTest)에서도 사용
+    public static final String MAJOR_INDEX_SNAPSHOT_SQL = MAJOR_INDEX_SNAPSHOT_SQL_TEMPLATE.formatted("AND d.base_date >= :since");
+
+    // 최근 기간에 두 행이 없는 (오래 갱신되지 않은) 지수만 전체 기간에서 다시 조회
+    private static final String MAJOR_INDEX_SNAPSHOT_FULL_HISTORY_SQL = MAJOR_INDEX_SNAPSHOT_SQL_TEMPLATE.formatted("");
 
     @Override
-    public IndexChartDto findIndexChartData(Long indexInfoId, ChartPeriodType periodType) {
-        // 1. 지수 정보를 먼저 조회
-        IndexInfo indexInfo = indexInfoRepository.findById(indexInfoId).orElse(null);
-        if (indexInfo == null) {
+    public IndexChartDto findIndexChartData(Long indexInfoId, ChartPeriodType periodType, int maxPoints) {
+        // 1. 캐시에서 지수 시계열 조회 (지수 정보가 없으면 null)
+        IndexDataSeries series = seriesCache.get(indexInfoId);
+        if (series == null) {
             return null; // 서비스 레이어에서 Exception 처리
         }
 
         LocalDate startDate = calculateStartDate(periodType);
-        LocalDate dataStartDate = startDate.minusDays(20);
+        int startIndex = startDate == null ? 0 : series.lowerBound((int) startDate.toEpochDay());
 
-        NumberTemplate<BigDecimal> ma5 = Expressions.numberTemplate(BigDecimal.class,
-                "AVG({0}) OVER (ORDER BY {1} ROWS BETWEEN 4 PRECEDING AND CURRENT ROW)",
-                indexData.closingPrice, indexData.baseDate);
+        // 2. 종가 기준 LTTB 로 보여줄 행을 고르고, 이동평균도 같은 날짜로 맞춤
+        int[] rows = ChartDownsampler.select(series, startIndex, series.size(), maxPoints);
 
-        NumberTemplate<BigDecimal> ma20 = Expressions.numberTemplate(BigDecimal.class,
-                "AVG({0}) OVER (ORDER BY {1} ROWS BETWEEN 19 PRECEDING AND CURRENT ROW)",
-                indexData.closingPrice, indexData.baseDate);
-
-        // 2. DB에서 데이터를 리스트로 조회
-        List<ChartDataRow> rawData = queryFactory
-                .select(Projections.constructor(ChartDataRow.class,
-                        indexData.baseDate,
-                        indexData.closingPrice,
-                        ma5,
-                        ma20
-                ))
-                .from(indexData)
-                .where(indexData.indexInfo.id.eq(indexInfoId)
-                        .and(indexData.baseDate.goe(dataStartDate)))
-                .orderBy(indexData.baseDate.asc())
-                .fetch();
+        // 3. 적재 시 미리 계산해 둔 이동평균을 그대로 사용 (시작일 이전 데이터까지 반영된 값)
+        int[] windows = series.movingAverageWindows();
+        List<ChartDataPoint> dataPoints = new ArrayList<>(rows.length);
+        Map<Integer, List<ChartDataPoint>> movingAverages = new LinkedHashMap<>();
+        for (int window : windows) {
+            movingAverages.put(window, new ArrayList<>(rows.length));
+        }
 
-        // 3. Java에서 DTO로 조립
-        List<ChartDataPoint> dataPoints = new ArrayList<>();
-        List<ChartDataPoint> ma5DataPoints = new ArrayList<>();
-        List<ChartDataPoint> ma20DataPoints = new ArrayList<>();
+        for (int i : rows) {
+            LocalDate date = series.baseDate(i);
+            dataPoints.add(new ChartDataPoint(date, IndexDataSeries.toDecimal(series.closingPrice(i))));
 
-        for (ChartDataRow row : rawData) {
-            if (!row.date().isBefore(startDate)) {
-                dataPoints.add(new ChartDataPoint(row.date(), row.value()));
-                if (row.ma5() != null) {
-                    ma5DataPoints.add(new ChartDataPoint(row.date(), row.ma5()));
-                }
-                if (row.ma20() != null) {
-                    ma20DataPoints.add(new ChartDataPoint(row.date(), row.ma20()));
+            for (int window : windows) {
+                long average = series.movingAverage(window, i);
+                if (average != IndexDataSeries.NULL_VALUE) {
+                    movingAverages.get(window).add(new ChartDataPoint(date, IndexDataSeries.toDecimal(average)));
                 }
             }
         }
 
+        // 5/20 일은 기존 필드로만 내려줌 (같은 점 목록을 두 번 보내지 않도록 map 에서 제외)
+        List<ChartDataPoint> ma5DataPoints = movingAverages.remove(5);
+        List<ChartDataPoint> ma20DataPoints = movingAverages.remove(20);
+
         return new IndexChartDto(
-                indexInfo.getId(),
-                indexInfo.getIndexClassification(),
-                indexInfo.getIndexName(),
+                series.indexInfoId(),
+                series.indexClassification(),
+                series.indexName(),
                 periodType,
                 dataPoints,
                 ma5DataPoints,
-                ma20DataPoints
+                ma20DataPoints,
+                movingAverages
         );
     }
 
-    @Override
-    public List<MajorIndexDto> getFavoriteMajorIndexData(int month) {
-        QIndexInfo indexInfo = QIndexInfo.indexInfo;
-        QIndexData indexData = QIndexData.indexData;
-
-        int beforeMonth = month -1;
-
-        return queryFactory
-                .select(Projections.constructor(MajorIndexDto.class,
-                        indexInfo.id.as("indexInfoId"),
-                        indexInfo.indexClassification,
-                        indexInfo.indexName,
-                        indexData.baseDate,
-                        indexData.versus,
-                        indexData.fluctuationRate,
-                        indexData.closingPrice
-                ))
-                .from(indexInfo)
-                .join(indexData).on(indexInfo.id.eq(indexData.indexInfo.id))
-                .where(indexInfo.favorite.isTrue()
-                        .and(Expressions.numberTemplate(Integer.class,
-                                "EXTRACT(MONTH FROM {0})", indexData.baseDate).in(month, beforeMonth))
-                )
-                .orderBy(indexInfo.id.asc(), indexData.baseDate.asc())
-                .fetch();
-    }
-
-    @Override
-    public List<MajorIndexDto> getCurrentAndPreviousMonthData(int month) {
-        QIndexInfo indexInfo = QIndexInfo.indexInfo;
-        QIndexData indexData = QIndexData.indexData;
-
-        int beforeMonth = month -1;
-
-        return queryFactory
-                .select(Projections.constructor(MajorIndexDto.class,
-                        indexInfo.id.as("indexInfoId"),
-                        indexInfo.indexClassification,
-                        indexInfo.indexName,
-                        indexData.baseDate,
-                        indexData.versus,
-                        indexData.fluctuationRate,
-                        indexData.closingPrice
-                ))
-                .from(indexInfo)
-                .join(indexData).on(indexInfo.id.eq(indexData.indexInfo.id))
-                .where(Expressions.numberTemplate(Integer.class,
-                                "EXTRACT(MONTH FROM {0})", indexData.baseDate).in(month, beforeMonth)
-                )
-                .orderBy(indexInfo.id.asc(), indexData.baseDate.asc())
-                .fetch();
-    }
-
+    // ALL 이면 null (전체 기간)
     private LocalDate calculateStartDate(ChartPeriodType periodType) {
         LocalDate today = LocalDate.now();
         return switch (periodType) {
             case MONTHLY -> today.minusMonths(1);
             case QUARTERLY -> today.minusMonths(3);
             case YEARLY -> today.minusYears(1);
+            case THREE_YEARS -> today.minusYears(3);
+            case FIVE_YEARS -> today.minusYears(5);
+            case TEN_YEARS -> today.minusYears(10);
+            case ALL -> null;
         };
     }
 
     @Override
-    public MajorIndexDto getLatestMajorIndexData(Long indexInfoId) {
-        QIndexData d = QIndexData.indexData;
-        QIndexInfo i = QIndexInfo.indexInfo;
+    public List<MajorIndexSnapshotDto> getMajorIndexSnapshots(List<Long> indexInfoIds, int offset) {
+        if (indexInfoIds == null || indexInfoIds.isEmpty()) {
+            return List.of();
+        }
 
-        return queryFactory
-                .select(Projections.constructor(
-                        MajorIndexDto.class,
-                        d.indexInfo.id,          // IndexInfoId
-                        i.indexClassification,   // 분류명
-                        i.indexName,             // 지수명
-                        d.baseDate,              // 기준일
-                        d.versus,                // 대비
-                        d.fluctuationRate,       // 등락률
-                        d.closingPrice           // 종가
-                ))
-                .from(d)
-                .join(d.indexInfo, i) // d.indexInfo (연관관계 필드)와 i 매핑
-                .where(d.indexInfo.id.eq(indexInfoId))
-                .orderBy(d.baseDate.desc())
-                .limit(1)
-                .fetchOne();
-    }
+        // 1. 캐시에 있는 지수는 최신 행과 offset 행 전 데이터를 바로 꺼냄
+        Map<Long, MajorIndexSnapshotDto> snapshots = new HashMap<>();
+        for (IndexDataSeries series : seriesCache.getAllIfPresent(indexInfoIds).values()) {
+            int latestIndex = series.size() - 1;
+            if (latestIndex < 0) continue;
 
-    @Override
-    public MajorIndexDto getBeforeDayMajorIndexData(Long indexInfoId) {
-        QIndexData d = QIndexData.indexData;
-        QIndexInfo i = QIndexInfo.indexInfo;
-
-        return queryFactory
-                .select(Projections.constructor(
-                        MajorIndexDto.class,
-                        d.indexInfo.id,        // d.INDEX_INFO_ID
-                        i.indexClassification, // i.INDEX_CLASSIFICATION
-                        i.indexName,           // i.INDEX_NAME
-                        d.baseDate,            // d.BASE_DATE
-                        d.versus,              // d.VERSUS
-                        d.fluctuationRate,     // d.FLUCTUATION_RATE
-                        d.closingPrice         // d.CLOSING_PRICE
-                ))
-                .from(d)
-                .join(i).on(d.indexInfo.id.eq(i.id))
-                .where(d.indexInfo.id.eq(indexInfoId))
-                .orderBy(d.baseDate.desc())
-                .offset(1)  // OFFSET 1
-                .limit(1)   // LIMIT 1
-                .fetchOne();
-    }
+            int beforeIndex = latestIndex - offset;
+            snapshots.put(series.indexInfoId(), new MajorIndexSnapshotDto(
+                    series.toMajorIndexDto(latestIndex),
+                    beforeIndex >= 0 ? series.toMajorIndexDto(beforeIndex) : null));
+        }
 
-    @Override
-    public MajorIndexDto getBeforeWeekMajorIndexData(Long indexInfoId) {
-        QIndexData d = QIndexData.indexData;
-        QIndexInfo i = QIndexInfo.indexInfo;
+        // 2. 캐시에 없는 지수는 한 번의 쿼리로 두 행씩만 조회
+        List<Long> missing = indexInfoIds.stream()
+                .filter(id -> !snapshots.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            snapshots.putAll(findMajorIndexSnapshots(missing, offset));
+        }
 
-        return queryFactory
-                .select(Projections.constructor(
-                        MajorIndexDto.class,
-                        d.indexInfo.id,        // d.INDEX_INFO_ID
-                        i.indexClassification, // i.INDEX_CLASSIFICATION
-                        i.indexName,           // i.INDEX_NAME
-                        d.baseDate,            // d.BASE_DATE
-                        d.versus,              // d.VERSUS
-                        d.fluctuationRate,     // d.FLUCTUATION_RATE
-                        d.closingPrice         // d.CLOSING_PRICE
-                ))
-                .from(d)
-                .join(i).on(d.indexInfo.id.eq(i.id))
-                .where(d.indexInfo.id.eq(indexInfoId))
-                .orderBy(d.baseDate.desc())
-                .offset(7)  // OFFSET 1
-                .limit(1)   // LIMIT 1
-                .fetchOne();
+        // 요청 순서 유지 (데이터가 없는 지수는 제외)
+        return indexInfoIds.stream()
+                .distinct()
+                .map(snapshots::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    @Override
-    public MajorIndexDto getBeforeMonthMajorIndexData(Long indexInfoId) {
-        QIndexData d = QIndexData.indexData;
-        QIndexInfo i = QIndexInfo.indexInfo;
-
-        return queryFactory
-                .select(Projections.constructor(
-                        MajorIndexDto.class,
-                        d.indexInfo.id,        // d.INDEX_INFO_ID
-                        i.indexClassification, // i.INDEX_CLASSIFICATION
-                        i.indexName,           // i.INDEX_NAME
-                        d.baseDate,            // d.BASE_DATE
-                        d.versus,              // d.VERSUS
-                        d.fluctuationRate,     // d.FLUCTUATION_RATE
-                        d.closingPrice         // d.CLOSING_PRICE
-                ))
-                .from(d)
-                .join(i).on(d.indexInfo.id.eq(i.id))
-                .where(d.indexInfo.id.eq(indexInfoId))
-                .orderBy(d.baseDate.desc())
-                .offset(30)  // OFFSET 1
-                .limit(1)   // LIMIT 1
-                .fetchOne();
+    private Map<Long, MajorIndexSnapshotDto> findMajorIndexSnapshots(List<Long> indexInfoIds, int offset) {
+        // 거래일 offset 개는 달력으로 최대 약 2배 + 연휴 2주
+        int lookbackDays = Math.max(snapshotLookbackDays, offset * 2 + 14);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("indexInfoIds", indexInfoIds)
+                .addValue("beforeRowNumber", offset + 1)
+                .addValue("since", LocalDate.now().minusDays(lookbackDays));
+        Map<Long, MajorIndexSnapshotDto> snapshots = querySnapshots(MAJOR_INDEX_SNAPSHOT_SQL, params);
+
+        List<Long> incomplete = indexInfoIds.stream()
+                .filter(id -> snapshots.get(id) == null || snapshots.get(id).before() == null)
+                .toList();
+        if (!incomplete.isEmpty()) {
+            snapshots.putAll(querySnapshots(MAJOR_INDEX_SNAPSHOT_FULL_HISTORY_SQL, new MapSqlParameterSource()
+                    .addValue("indexInfoIds", incomplete)
+                    .addValue("beforeRowNumber", offset + 1)));
+        }
+        return snapshots;
     }
 
+    private Map<Long, MajorIndexSnapshotDto> querySnapshots(String sql, MapSqlParameterSource params) {
+
+        Map<Long, MajorIndexDto> latestMap = new HashMap<>();
+        Map<Long, MajorIndexDto> beforeMap = new HashMap<>();
+
+        namedParameterJdbcTemplate.query(sql, params, rs -> {
+            MajorIndexDto dto = MajorIndexDto.builder()
+                    .indexInfoId(rs.getLong("index_info_id"))
+                    .indexClassification(rs.getString("index_classification"))
+                    .indexName(rs.getString("index_name"))
+                    .baseDate(rs.getObject("base_date", LocalDate.class))
+                    .versus(rs.getBigDecimal("versus"))
+                    .fluctuationRate(rs.getBigDecimal("fluctuation_rate"))
+                    .closingPrice(rs.getBigDecimal("closing_price"))
+                    .build();
+
+            if (rs.getLong("rn") == 1) latestMap.put(dto.indexInfoId(), dto);
+            else beforeMap.put(dto.indexInfoId(), dto);
+        });
+
+        Map<Long, MajorIndexSnapshotDto> snapshots = new HashMap<>();
+        latestMap.forEach((id, latest) -> snapshots.put(id, new MajorIndexSnapshotDto(latest, beforeMap.get(id))));
+        return snapshots;
+    }
 }
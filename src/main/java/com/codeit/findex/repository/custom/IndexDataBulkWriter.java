@@ -0,0 +1,141 @@
+package com.codeit.findex.repository.custom;
+
+import com.codeit.findex.entity.IndexData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * index_data 대량 저장 전용 Writer
+ * - uq_index_data (index_info_id, base_date) 충돌을 DB에서 처리하므로 저장 전 중복 조회가 필요 없음
+ * - PostgreSQL: INSERT ... ON CONFLICT, H2(테스트/로컬): 표준 MERGE ... USING
+ * - 값은 모두 바인딩 파라미터로 전달
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IndexDataBulkWriter {
+
+    private static final int ROWS_PER_STATEMENT = 500; // 12컬럼 * 500 = 6000 파라미터 (PostgreSQL 한도 65535)
+
+    private static final String COLUMNS = "index_info_id, base_date, source_type, market_price, closing_price, high_price, "
+            + "low_price, versus, fluctuation_rate, trading_quantity, trading_price, market_total_amount";
+
+    private static final String UPDATE_SET = "source_type = %1$s.source_type, market_price = %1$s.market_price, "
+            + "closing_price = %1$s.closing_price, high_price = %1$s.high_price, low_price = %1$s.low_price, "
+            + "versus = %1$s.versus, fluctuation_rate = %1$s.fluctuation_rate, trading_quantity = %1$s.trading_quantity, "
+            + "trading_price = %1$s.trading_price, market_total_amount = %1$s.market_total_amount";
+
+    // H2 는 VALUES 안의 파라미터 타입을 추론하지 못하므로 CAST 로 명시
+    private static final String H2_ROW = "(CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS VARCHAR(100)), "
+            + "CAST(? AS NUMERIC(20, 4)), CAST(? AS NUMERIC(20, 4)), CAST(? AS NUMERIC(20, 4)), CAST(? AS NUMERIC(20, 4)), "
+            + "CAST(? AS NUMERIC(20, 4)), CAST(? AS NUMERIC(10, 4)), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT))";
+
+    private static final String POSTGRES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres; // 최초 사용 시 DB 종류 확인
+
+    /**
+     * 지수 데이터 대량 저장
+     * @param rows 저장할 데이터 (indexInfo 의 id 가 있어야 함)
+     * @param updateExisting true 면 같은 (지수, 날짜) 데이터를 덮어쓰고, false 면 기존 데이터를 유지
+     * @return 반영된 row 수
+     */
+    public int upsertAll(List<IndexData> rows, boolean updateExisting) {
+        int affected = 0;
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<IndexData> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            String sql = isPostgres() ? postgresSql(chunk.size(), updateExisting) : h2Sql(chunk.size(), updateExisting);
+            affected += jdbcTemplate.update(sql, ps -> bind(ps, chunk));
+        }
+        log.debug("[IndexDataBulkWriter] rows={}, affected={}, updateExisting={}", rows.size(), affected, updateExisting);
+        return affected;
+    }
+
+    private String postgresSql(int rowCount, boolean updateExisting) {
+        StringBuilder sql = new StringBuilder("INSERT INTO index_data (").append(COLUMNS).append(") VALUES ");
+        appendRows(sql, POSTGRES_ROW, rowCount);
+        sql.append(" ON CONFLICT (index_info_id, base_date) ");
+        if (updateExisting) {
+            sql.append("DO UPDATE SET ").append(String.format(UPDATE_SET, "EXCLUDED"));
+        } else {
+            sql.append("DO NOTHING");
+        }
+        return sql.toString();
+    }
+
+    private String h2Sql(int rowCount, boolean updateExisting) {
+        StringBuilder sql = new StringBuilder("MERGE INTO index_data t USING (VALUES ");
+        appendRows(sql, H2_ROW, rowCount);
+        sql.append(") AS s (").append(COLUMNS).append(") ")
+                .append("ON t.index_info_id = s.index_info_id AND t.base_date = s.base_date ");
+        if (updateExisting) {
+            sql.append("WHEN MATCHED THEN UPDATE SET ").append(String.format(UPDATE_SET, "s")).append(" ");
+        }
+        sql.append("WHEN NOT MATCHED THEN INSERT (").append(COLUMNS).append(") VALUES (")
+                .append("s.index_info_id, s.base_date, s.source_type, s.market_price, s.closing_price, s.high_price, ")
+                .append("s.low_price, s.versus, s.fluctuation_rate, s.trading_quantity, s.trading_price, s.market_total_amount)");
+        return sql.toString();
+    }
+
+    private void appendRows(StringBuilder sql, String row, int rowCount) {
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(row);
+        }
+    }
+
+    private void bind(PreparedStatement ps, List<IndexData> chunk) throws SQLException {
+        int i = 1;
+        for (IndexData data : chunk) {
+            ps.setLong(i++, data.getIndexInfo().getId());
+            ps.setDate(i++, Date.valueOf(data.getBaseDate()));
+            setString(ps, i++, data.getSourceType() != null ? data.getSourceType().name() : null);
+            setDecimal(ps, i++, data.getMarketPrice());
+            setDecimal(ps, i++, data.getClosingPrice());
+            setDecimal(ps, i++, data.getHighPrice());
+            setDecimal(ps, i++, data.getLowPrice());
+            setDecimal(ps, i++, data.getVersus());
+            setDecimal(ps, i++, data.getFluctuationRate());
+            setLong(ps, i++, data.getTradingQuantity());
+            setLong(ps, i++, data.getTradingPrice());
+            setLong(ps, i++, data.getMarketTotalAmount());
+        }
+    }
+
+    private static void setString(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.VARCHAR);
+        else ps.setString(index, value);
+    }
+
+    private static void setDecimal(PreparedStatement ps, int index, BigDecimal value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.NUMERIC);
+        else ps.setBigDecimal(index, value);
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.BIGINT);
+        else ps.setLong(index, value);
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String productName = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            result = productName != null && productName.toLowerCase().contains("postgres");
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+package com.codeit.findex.repository.custom;
+
+import com.codeit.findex.dto.request.IndexDataSearchCondition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * index_data 건수 추정 (PostgreSQL 전용)
+ * - 필터가 없으면 pg_class.reltuples (테이블 통계, 파티션 테이블이면 파티션별 합)
+ * - 필터가 있으면 EXPLAIN 의 최상위 노드 rows 추정치
+ * - PostgreSQL 이 아니거나 통계가 아직 없으면 empty → 호출하는 쪽에서 정확한 COUNT 로 대체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IndexDataCountEstimator {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private static final String RELTUPLES_SQL = """
+            SELECT CASE WHEN MAX(c.reltuples) < 0 THEN -1 ELSE SUM(GREATEST(c.reltuples, 0)) END::bigint
+            FROM pg_class c
+            WHERE (c.oid = 'index_data'::regclass AND c.relkind = 'r')
+               OR c.oid IN (SELECT inhrelid FROM pg_inherits WHERE inhparent = 'index_data'::regclass)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres; // 최초 사용 시 DB 종류 확인
+
+    public OptionalLong estimate(IndexDataSearchCondition condition) {
+        if (!isPostgres()) return OptionalLong.empty();
+
+        StringBuilder where = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+        if (condition.indexInfoId() != null) {
+            where.append(" AND index_info_id = ?");
+            params.add(condition.indexInfoId());
+        }
+        if (condition.startDate() != null) {
+            where.append(" AND base_date >= ?");
+            params.add(Date.valueOf(condition.startDate()));
+        }
+        if (condition.endDate() != null) {
+            where.append(" AND base_date <= ?");
+            params.add(Date.valueOf(condition.endDate()));
+        }
+
+        if (params.isEmpty()) {
+            // 한 번도 ANALYZE 되지 않은 테이블은 -1, 파티션 테이블이면 부모가 아니라 파티션들의 통계 합
+            Long reltuples = jdbcTemplate.queryForObject(RELTUPLES_SQL, Long.class);
+            return reltuples == null || reltuples < 0 ? OptionalLong.empty() : OptionalLong.of(reltuples);
+        }
+
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN SELECT 1 FROM index_data WHERE 1=1" + where, String.class, params.toArray());
+        if (plan.isEmpty()) return OptionalLong.empty();
+
+        Matcher matcher = PLAN_ROWS.matcher(plan.get(0));
+        if (!matcher.find()) {
+            log.debug("[IndexDataCountEstimator] unexpected plan line: {}", plan.get(0));
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(Long.parseLong(matcher.group(1)));
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String productName = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            result = productName != null && productName.toLowerCase().contains("postgres");
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+package com.codeit.findex.repository.custom;
+
+import com.codeit.findex.dto.request.IndexDataSearchCondition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * index_data 내보내기 전용 Reader
+ * - 엔티티/DTO 리스트를 만들지 않고 forward-only 커서에서 한 행씩 콜백으로 넘김
+ * - fetch-size 만큼씩 DB 에서 가져오므로 전체 건수와 상관없이 메모리 사용량이 일정
+ * - PostgreSQL 은 트랜잭션 안(auto-commit off)에서만 fetch size 가 적용되므로 호출하는 쪽에서 트랜잭션을 열어야 함
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IndexDataExportReader {
+
+    // 조회 컬럼 순서 (콜백에서 ResultSet 인덱스로 사용)
+    public static final int INDEX_INFO_ID = 1;
+    public static final int BASE_DATE = 2;
+    public static final int MARKET_PRICE = 3;
+    public static final int CLOSING_PRICE = 4;
+    public static final int HIGH_PRICE = 5;
+    public static final int LOW_PRICE = 6;
+    public static final int VERSUS = 7;
+    public static final int FLUCTUATION_RATE = 8;
+    public static final int TRADING_QUANTITY = 9;
+    public static final int TRADING_PRICE = 10;
+    public static final int MARKET_TOTAL_AMOUNT = 11;
+
+    private static final String SELECT = "SELECT index_info_id, base_date, market_price, closing_price, high_price, low_price, "
+            + "versus, fluctuation_rate, trading_quantity, trading_price, market_total_amount FROM index_data WHERE 1=1";
+
+    // 정렬 필드 화이트리스트 (엔티티 필드명 → 컬럼명)
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "baseDate", "base_date",
+            "marketPrice", "market_price",
+            "closingPrice", "closing_price",
+            "highPrice", "high_price",
+            "lowPrice", "low_price",
+            "versus", "versus",
+            "fluctuationRate", "fluctuation_rate",
+            "tradingQuantity", "trading_quantity",
+            "tradingPrice", "trading_price",
+            "marketTotalAmount", "market_total_amount"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${findex.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * 조건(지수, 기준일 범위)에 맞는 데이터가 있는 지수 id 목록 (id 오름차순)
+     * - 지수별 분할 내보내기의 파티션, Arrow 사전 인코딩에 사용 → 데이터가 없는 지수는 빈 CSV 가 되지 않도록 제외
+     * - DISTINCT index_info_id 와 같은 결과, 지수마다 uq_index_data 로 한 행만 확인하므로 index_data 전체를 훑지 않음
+     */
+    public List<Long> findIndexInfoIds(IndexDataSearchCondition condition) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT i.id FROM index_infos i WHERE EXISTS (SELECT 1 FROM index_data WHERE index_data.index_info_id = i.id");
+        List<Object> params = appendFilters(sql, condition);
+        sql.append(") ORDER BY i.id");
+
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray());
+    }
+
+    /**
+     * 조건에 맞는 데이터의 [최소, 최대] 기준일 (데이터가 없으면 null)
+     */
+    public LocalDate[] findDateRange(IndexDataSearchCondition condition) {
+        StringBuilder sql = new StringBuilder("SELECT MIN(base_date), MAX(base_date) FROM index_data WHERE 1=1");
+        List<Object> params = appendFilters(sql, condition);
+
+        return jdbcTemplate.query(sql.toString(), rs -> {
+            if (!rs.next() || rs.getDate(1) == null) return null;
+            return new LocalDate[]{rs.getDate(1).toLocalDate(), rs.getDate(2).toLocalDate()};
+        }, params.toArray());
+    }
+
+    /**
+     * 조건에 맞는 행을 정렬 순서대로 한 행씩 handler 에 전달
+     * - handler 안에서는 현재 행만 읽어야 함 (rs.next() 호출 금지)
+     */
+    public void forEachRow(IndexDataSearchCondition condition, RowCallbackHandler handler) {
+        String sortColumn = SORT_COLUMNS.get(condition.sortField());
+        if (sortColumn == null) {
+            throw new IllegalArgumentException("허용되지 않은 정렬 필드입니다: " + condition.sortField());
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> params = appendFilters(sql, condition);
+        sql.append(" ORDER BY ").append(sortColumn).append(condition.isDescending() ? " DESC" : " ASC").append(", id ASC");
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, handler);
+
+        log.debug("[IndexDataExportReader] streamed export query - sortField: {}, fetchSize: {}", condition.sortField(), fetchSize);
+    }
+
+    private static List<Object> appendFilters(StringBuilder sql, IndexDataSearchCondition condition) {
+        List<Object> params = new ArrayList<>();
+        if (condition.indexInfoId() != null) {
+            sql.append(" AND index_info_id = ?");
+            params.add(condition.indexInfoId());
+        }
+        if (condition.startDate() != null) {
+            sql.append(" AND base_date >= ?");
+            params.add(Date.valueOf(condition.startDate()));
+        }
+        if (condition.endDate() != null) {
+            sql.append(" AND base_date <= ?");
+            params.add(Date.valueOf(condition.endDate()));
+        }
+        return params;
+    }
+}
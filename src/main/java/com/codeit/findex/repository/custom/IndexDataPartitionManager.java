@@ -0,0 +1,54 @@
+package com.codeit.findex.repository.custom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * index_data 연도 파티션 관리 (PostgreSQL 전용, V3 마이그레이션의 ensure_index_data_partition 함수 사용)
+ * - PostgreSQL 이 아니거나 index_data 가 파티션 테이블이 아니면 아무것도 하지 않음
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IndexDataPartitionManager {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean partitioned; // 최초 사용 시 확인
+
+    /**
+     * fromYear ~ toYear 연도 파티션이 없으면 생성
+     * @return 새로 만든 파티션의 연도 목록
+     */
+    public List<Integer> ensureYearPartitions(int fromYear, int toYear) {
+        List<Integer> created = new ArrayList<>();
+        if (!isPartitioned()) return created;
+
+        for (int year = fromYear; year <= toYear; year++) {
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT ensure_index_data_partition(?)", Boolean.class, year))) {
+                created.add(year);
+            }
+        }
+        return created;
+    }
+
+    private boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            String productName = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            result = productName != null && productName.toLowerCase().contains("postgres")
+                    && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid "
+                            + "WHERE c.relname = 'index_data' AND pg_table_is_visible(c.oid))", Boolean.class));
+            if (!result) log.info("[IndexDataPartitionManager] index_data is not partitioned - partition maintenance disabled");
+            partitioned = result;
+        }
+        return result;
+    }
+}
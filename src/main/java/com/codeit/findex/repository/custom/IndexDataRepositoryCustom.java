@@ -20,7 +20,5 @@ public interface IndexDataRepositoryCustom {
 
     long count(IndexDataSearchCondition condition);
 
-    List<IndexData> findAllByCondition(IndexDataSearchCondition condition);
-
     void saveAllInBatch(List<IndexData> indexDataList, Long indexInfoId);
 }
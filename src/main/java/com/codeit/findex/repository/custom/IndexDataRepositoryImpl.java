@@ -1,16 +1,15 @@
 package com.codeit.findex.repository.custom;
 
+import com.codeit.findex.dto.data.KeysetCursor;
 import com.codeit.findex.dto.request.IndexDataSearchCondition;
 import com.codeit.findex.entity.IndexData;
 import com.codeit.findex.entity.QIndexData;
+import com.codeit.findex.repository.cursor.KeysetPredicates;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -18,8 +17,6 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -47,17 +44,20 @@ public class IndexDataRepositoryImpl implements IndexDataRepositoryCustom {
         // 기본 필터 조건
         BooleanBuilder where = buildBasicConditions(condition, indexData);
         
-        // 커서 기반 조건 추가
-        buildCursorCondition(condition, indexData, where);
+        // 정렬 컬럼 (화이트리스트 검증)
+        ComparableExpressionBase<?> sortColumn = sortColumn(condition.sortField(), indexData);
+        boolean nullable = !"baseDate".equals(condition.sortField()); // base_date 외 컬럼은 NULL 허용
         
-        // 정렬 조건 생성
-        OrderSpecifier<?> orderSpecifier = buildOrderSpecifier(condition, indexData);
+        // 커서 기반 조건 추가: (정렬 컬럼, id) 행 값 비교
+        KeysetCursor cursor = condition.keysetCursor();
+        if (cursor != null) cursor.lastValueAs(sortColumn.getType()); // 커서 정렬값 타입 검증
+        where.and(KeysetPredicates.after(sortColumn, indexData.id, cursor, nullable));
         
-        // 메인 쿼리 실행 (size + 1개 조회)
+        // 메인 쿼리 실행 (size + 1개 조회), id 도 정렬 방향을 따라야 행 값 비교와 순서가 일치
         List<IndexData> content = queryFactory
             .selectFrom(indexData)
             .where(where)
-            .orderBy(orderSpecifier, indexData.id.asc()) // 2차 정렬로 일관성 보장
+            .orderBy(KeysetPredicates.orderBy(sortColumn, indexData.id, condition.isDescending(), nullable))
             .limit(condition.size() + 1)
             .fetch();
         
@@ -93,155 +93,24 @@ public class IndexDataRepositoryImpl implements IndexDataRepositoryCustom {
     }
 
     /**
-     * 커서 기반 조건 생성 (정렬 필드별 최적화)
+     * 정렬 컬럼 (화이트리스트)
      */
-    private void buildCursorCondition(IndexDataSearchCondition condition, QIndexData indexData, BooleanBuilder where) {
-        Object lastSortValue = condition.getLastSortValue();
-        Long lastId = condition.getLastId();
-        
-        if (lastSortValue == null || lastId == null) {
-            return; // 커서가 없으면 첫 페이지
-        }
-        
-        String sortField = condition.sortField();
-        boolean isDesc = condition.isDescending();
-        
-        log.debug("Building cursor condition - sortField: {}, lastValue: {}, lastId: {}, isDesc: {}", 
-                 sortField, lastSortValue, lastId, isDesc);
-        
-        BooleanBuilder cursorCondition = new BooleanBuilder();
-        
-        switch (sortField) {
-            case "baseDate" -> {
-                LocalDate dateValue = (LocalDate) lastSortValue;
-                if (isDesc) {
-                    cursorCondition.or(indexData.baseDate.lt(dateValue))
-                                  .or(indexData.baseDate.eq(dateValue).and(indexData.id.gt(lastId)));
-                } else {
-                    cursorCondition.or(indexData.baseDate.gt(dateValue))
-                                  .or(indexData.baseDate.eq(dateValue).and(indexData.id.gt(lastId)));
-                }
-            }
-            case "marketPrice" -> {
-                BigDecimal value = (BigDecimal) lastSortValue;
-                if (isDesc) {
-                    cursorCondition.or(indexData.marketPrice.lt(value))
-                                  .or(indexData.marketPrice.eq(value).and(indexData.id.gt(lastId)));
-                } else {
-                    cursorCondition.or(indexData.marketPrice.gt(value))
-                                  .or(indexData.marketPrice.eq(value).and(indexData.id.gt(lastId)));
-                }
-            }
-            case "closingPrice" -> {
-                BigDecimal value = (BigDecimal) lastSortValue;
-                if (isDesc) {
-                    cursorCondition.or(indexData.closingPrice.lt(value))
-                                  .or(indexData.closingPrice.eq(value).and(indexData.id.gt(lastId)));
-                } else {
-                    cursorCondition.or(indexData.closingPrice.gt(value))
-                                  .or(indexData.closingPrice.eq(value).and(indexData.id.gt(lastId)));
-                }
-            }
-            case "highPrice" -> {
-                BigDecimal value = (BigDecimal) lastSortValue;
-                if (isDesc) {
-                    cursorCondition.or(indexData.highPrice.lt(value))
-                                  .or(indexData.highPrice.eq(value).and(indexData.id.gt(lastId)));
-                } else {
-                    cursorCondition.or(indexData.highPrice.gt(value))
-                                  .or(indexData.highPrice.eq(value).and(indexData.id.gt(lastId)));
-                }
-            }
-            case "lowPrice" -> {
-                BigDecimal value = (BigDecimal) lastSortValue;
-                if (isDesc) {
-                    cursorCondition.or(indexData.lowPrice.lt(value))
-                                  .or(indexData.lowPrice.eq(value).and(indexData.id.gt(lastId)));
-                } else {
-                    cursorCondition.or(indexData.lowPrice.gt(value))
-                                  .or(indexData.lowPrice.eq(value).and(indexData.id.gt(lastId)));
-                }
-            }
-            case "versus" -> {
-                BigDecimal value = (BigDecimal) lastSortValue;
-                if (isDesc) {
-                    cursorCondition.or(indexData.versus.lt(value))
-                                  .or(indexData.versus.eq(value).and(indexData.id.gt(lastId)));
-                } else {
-                    cursorCondition.or(indexData.versus.gt(value))
-                                  .or(indexData.versus.eq(value).and(indexData.id.gt(lastId)));
-                }
-            }
-            case "fluctuationRate" -> {
-                BigDecimal value = (BigDecimal) lastSortValue;
-                if (isDesc) {
-                    cursorCondition.or(indexData.fluctuationRate.lt(value))
-                                  .or(indexData.fluctuationRate.eq(value).and(indexData.id.gt(lastId)));
-                } else {
-                    cursorCondition.or(indexData.fluctuationRate.gt(value))
-                                  .or(indexData.fluctuationRate.eq(value).and(indexData.id.gt(lastId)));
-                }
-            }
-            case "tradingQuantity" -> {
-                Long value = (Long) lastSortValue;
-                if (isDesc) {
-                    cursorCondition.or(indexData.tradingQuantity.lt(value))
-                                  .or(indexData.tradingQuantity.eq(value).and(indexData.id.gt(lastId)));
-                } else {
-                    cursorCondition.or(indexData.tradingQuantity.gt(value))
-                                  .or(indexData.tradingQuantity.eq(value).and(indexData.id.gt(lastId)));
-                }
-            }
-            case "tradingPrice" -> {
-                Long value = (Long) lastSortValue;
-                if (isDesc) {
-                    cursorCondition.or(indexData.tradingPrice.lt(value))
-                                  .or(indexData.tradingPrice.eq(value).and(indexData.id.gt(lastId)));
-                } else {
-                    cursorCondition.or(indexData.tradingPrice.gt(value))
-                                  .or(indexData.tradingPrice.eq(value).and(indexData.id.gt(lastId)));
-                }
-            }
-            case "marketTotalAmount" -> {
-                Long value = (Long) lastSortValue;
-                if (isDesc) {
-                    cursorCondition.or(indexData.marketTotalAmount.lt(value))
-                                  .or(indexData.marketTotalAmount.eq(value).and(indexData.id.gt(lastId)));
-                } else {
-                    cursorCondition.or(indexData.marketTotalAmount.gt(value))
-                                  .or(indexData.marketTotalAmount.eq(value).and(indexData.id.gt(lastId)));
-                }
-            }
-        }
-        
-        where.and(cursorCondition);
-    }
-
-    /**
-     * 정렬 조건 생성
-     */
-    private OrderSpecifier<?> buildOrderSpecifier(IndexDataSearchCondition condition, QIndexData indexData) {
-        String sortField = condition.sortField();
-        
-        // 화이트리스트 검증
+    private ComparableExpressionBase<?> sortColumn(String sortField, QIndexData indexData) {
         if (!ALLOWED_SORT_FIELDS.contains(sortField)) {
             throw new IllegalArgumentException("허용되지 않은 정렬 필드입니다: " + sortField);
         }
         
-        Order order = condition.isDescending() ? Order.DESC : Order.ASC;
-        
         return switch (sortField) {
-            case "baseDate" -> new OrderSpecifier<>(order, indexData.baseDate);
-            case "marketPrice" -> new OrderSpecifier<>(order, indexData.marketPrice);
-            case "closingPrice" -> new OrderSpecifier<>(order, indexData.closingPrice);
-            case "highPrice" -> new OrderSpecifier<>(order, indexData.highPrice);
-            case "lowPrice" -> new OrderSpecifier<>(order, indexData.lowPrice);
-            case "versus" -> new OrderSpecifier<>(order, indexData.versus);
-            case "fluctuationRate" -> new OrderSpecifier<>(order, indexData.fluctuationRate);
-            case "tradingQuantity" -> new OrderSpecifier<>(order, indexData.tradingQuantity);
-            case "tradingPrice" -> new OrderSpecifier<>(order, indexData.tradingPrice);
-            case "marketTotalAmount" -> new OrderSpecifier<>(order, indexData.marketTotalAmount);
-            default -> new OrderSpecifier<>(Order.DESC, indexData.baseDate); // fallback
+            case "marketPrice" -> indexData.marketPrice;
+            case "closingPrice" -> indexData.closingPrice;
+            case "highPrice" -> indexData.highPrice;
+            case "lowPrice" -> indexData.lowPrice;
+            case "versus" -> indexData.versus;
+            case "fluctuationRate" -> indexData.fluctuationRate;
+            case "tradingQuantity" -> indexData.tradingQuantity;
+            case "tradingPrice" -> indexData.tradingPrice;
+            case "marketTotalAmount" -> indexData.marketTotalAmount;
+            default -> indexData.baseDate;
         };
     }
 
@@ -269,48 +138,12 @@ public class IndexDataRepositoryImpl implements IndexDataRepositoryCustom {
         BooleanBuilder where = buildBasicConditions(condition, indexData);
         
         return Optional.ofNullable(queryFactory
-                .select(indexData.id.countDistinct())
+                .select(indexData.id.count())
                 .from(indexData)
                 .where(where)
                 .fetchOne()).orElse(0L);
     }
 
-    @Override
-    public List<IndexData> findAllByCondition(IndexDataSearchCondition condition) {
-        StringBuilder jpqlBuilder = new StringBuilder("SELECT d FROM IndexData d WHERE 1=1");
-
-        if (condition.indexInfoId() != null) {
-            jpqlBuilder.append(" AND d.indexInfo.id = :indexInfoId");
-        }
-        if (condition.startDate() != null) {
-            jpqlBuilder.append(" AND d.baseDate >= :startDate");
-        }
-        if (condition.endDate() != null) {
-            jpqlBuilder.append(" AND d.baseDate <= :endDate");
-        }
-
-        String sortBy = condition.sortField();
-        if (!ALLOWED_SORT_FIELDS.contains(sortBy)) {
-            throw new IllegalArgumentException("허용되지 않은 정렬 필드입니다: " + sortBy);
-        }
-        String sortDirection = condition.sortDirection().equalsIgnoreCase("DESC") ? "DESC" : "ASC";
-        jpqlBuilder.append(" ORDER BY d.").append(sortBy).append(" ").append(sortDirection);
-
-        TypedQuery<IndexData> query = em.createQuery(jpqlBuilder.toString(), IndexData.class);
-
-        if (condition.indexInfoId() != null) {
-            query.setParameter("indexInfoId", condition.indexInfoId());
-        }
-        if (condition.startDate() != null) {
-            query.setParameter("startDate", condition.startDate());
-        }
-        if (condition.endDate() != null) {
-            query.setParameter("endDate", condition.endDate());
-        }
-
-        return query.getResultList();
-    }
-
     @Override
     public void saveAllInBatch(List<IndexData> indexDataList, Long indexInfoId) {
         StringBuilder query = new StringBuilder();
@@ -0,0 +1,185 @@
+package com.codeit.findex.repository.custom;
+
+import com.codeit.findex.dto.data.IndexDataRollupDto;
+import com.codeit.findex.dto.data.MajorIndexDto;
+import com.codeit.findex.dto.data.MajorIndexSnapshotDto;
+import com.codeit.findex.dto.data.RollupPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * index_data_rollups (주/월/연 집계) 갱신과 조회 (V4 마이그레이션)
+ * - 일별 데이터가 바뀌면 바뀐 날짜가 속한 기간만 지우고 다시 집계 → 직전 기간 대비 값은 그 기간부터 다시 계산
+ * - 집계 쿼리는 기간 범위의 base_date 조건으로 읽으므로 해당 연도 파티션만 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class IndexDataRollupRepository {
+
+    // 같은 지수의 집계를 동시에 다시 계산하면 (지운 뒤 넣기) 기본키가 충돌하므로 지수별로 트랜잭션 끝까지 직렬화
+    private static final String LOCK_SQL = """
+            SELECT pg_advisory_xact_lock(hashtext('index_data_rollups'), CAST(:indexInfoId % 2147483647 AS INTEGER))
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM index_data_rollups
+            WHERE index_info_id = :indexInfoId AND period_type = :periodType
+              AND period_start >= :rangeStart AND period_start < :rangeEnd
+            """;
+
+    // %s: date_trunc 단위 (RollupPeriod 상수, 사용자 입력 아님)
+    private static final String AGGREGATE_SQL = """
+            INSERT INTO index_data_rollups (index_info_id, period_type, period_start, period_end, trading_days,
+                                            open_price, high_price, low_price, close_price, trading_quantity, trading_price)
+            SELECT index_info_id, :periodType, date_trunc('%1$s', base_date)::date, MAX(base_date), COUNT(*),
+                   (array_agg(COALESCE(market_price, closing_price) ORDER BY base_date))[1],
+                   MAX(COALESCE(high_price, closing_price)),
+                   MIN(COALESCE(low_price, closing_price)),
+                   (array_agg(closing_price ORDER BY base_date DESC) FILTER (WHERE closing_price IS NOT NULL))[1],
+                   SUM(trading_quantity),
+                   SUM(trading_price)
+            FROM index_data
+            WHERE index_info_id = :indexInfoId AND base_date >= :rangeStart AND base_date < :rangeEnd
+            GROUP BY index_info_id, date_trunc('%1$s', base_date)
+            """;
+
+    // 다시 집계한 첫 기간부터 끝까지 (다음 기간의 직전 종가도 바뀌므로)
+    private static final String PREVIOUS_PERIOD_SQL = """
+            UPDATE index_data_rollups r
+            SET previous_period_end  = x.previous_period_end,
+                previous_close_price = x.previous_close_price,
+                versus               = r.close_price - x.previous_close_price,
+                fluctuation_rate     = CASE
+                                           WHEN x.previous_close_price IS NULL OR x.previous_close_price = 0 THEN NULL
+                                           ELSE round((r.close_price - x.previous_close_price) / x.previous_close_price * 100, 4)
+                                       END
+            FROM (SELECT period_start,
+                         LAG(period_end) OVER (ORDER BY period_start)  AS previous_period_end,
+                         LAG(close_price) OVER (ORDER BY period_start) AS previous_close_price
+                  FROM index_data_rollups
+                  WHERE index_info_id = :indexInfoId AND period_type = :periodType) x
+            WHERE r.index_info_id = :indexInfoId AND r.period_type = :periodType
+              AND r.period_start = x.period_start AND r.period_start >= :rangeStart
+            """;
+
+    // 실행 계획 테스트(QueryIndexUsageTest)에서도 사용
+    public static final String LATEST_SQL = """
+            SELECT DISTINCT ON (r.index_info_id)
+                   r.index_info_id, i.index_classification, i.index_name, r.period_end, r.close_price,
+                   r.versus, r.fluctuation_rate, r.previous_period_end, r.previous_close_price
+            FROM index_data_rollups r
+                     JOIN index_infos i ON i.id = r.index_info_id
+            WHERE r.index_info_id IN (:indexInfoIds) AND r.period_type = :periodType
+            ORDER BY r.index_info_id, r.period_start DESC
+            """;
+
+    private static final String RANGE_SQL = """
+            SELECT index_info_id, period_start, period_end, trading_days, open_price, high_price, low_price, close_price,
+                   trading_quantity, trading_price, previous_close_price, versus, fluctuation_rate
+            FROM index_data_rollups
+            WHERE index_info_id = :indexInfoId AND period_type = :periodType
+              AND period_start >= :startDate AND period_start <= :endDate
+            ORDER BY period_start
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * from ~ to 날짜가 속한 모든 기간(주/월/연)을 다시 집계
+     * - 호출 전에 일별 데이터 변경이 DB 에 반영(flush)돼 있어야 함
+     * - 같은 지수의 refresh 는 동시에 호출돼도 차례로 실행 (연동 여러 건, 수동 등록이 겹칠 때)
+     */
+    @Transactional
+    public void refresh(Long indexInfoId, LocalDate from, LocalDate to) {
+        namedParameterJdbcTemplate.query(LOCK_SQL, new MapSqlParameterSource("indexInfoId", indexInfoId), rs -> null);
+
+        for (RollupPeriod period : RollupPeriod.values()) {
+            LocalDate rangeStart = period.startOf(from);
+            LocalDate rangeEnd = period.next(period.startOf(to));
+
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("indexInfoId", indexInfoId)
+                    .addValue("periodType", period.name())
+                    .addValue("rangeStart", Date.valueOf(rangeStart))
+                    .addValue("rangeEnd", Date.valueOf(rangeEnd));
+
+            namedParameterJdbcTemplate.update(DELETE_SQL, params);
+            namedParameterJdbcTemplate.update(AGGREGATE_SQL.formatted(period.truncUnit()), params);
+            namedParameterJdbcTemplate.update(PREVIOUS_PERIOD_SQL, params);
+        }
+    }
+
+    /**
+     * 여러 지수의 기간 집계를 한 트랜잭션에서 다시 계산 (연동 한 건이 끝날 때 한 번 호출)
+     * - dateRanges: 지수 id → [바뀐 최소 날짜, 바뀐 최대 날짜]
+     * - 지수 id 순서로 잠그므로 동시에 끝난 연동끼리 교착되지 않음
+     */
+    @Transactional
+    public void refreshAll(Map<Long, LocalDate[]> dateRanges) {
+        new TreeMap<>(dateRanges).forEach((indexInfoId, range) -> refresh(indexInfoId, range[0], range[1]));
+    }
+
+    /**
+     * 지수별 가장 최근 기간의 종가와 직전 기간 종가
+     * - latest: 이번 기간 마지막 거래일 종가, before: 직전 기간 마지막 거래일 종가 (직전 기간이 없으면 null)
+     */
+    public List<MajorIndexSnapshotDto> findLatestSnapshots(List<Long> indexInfoIds, RollupPeriod period) {
+        if (indexInfoIds == null || indexInfoIds.isEmpty()) return List.of();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("indexInfoIds", indexInfoIds)
+                .addValue("periodType", period.name());
+
+        return namedParameterJdbcTemplate.query(LATEST_SQL, params, (rs, rowNum) -> {
+            long indexInfoId = rs.getLong("index_info_id");
+            String classification = rs.getString("index_classification");
+            String name = rs.getString("index_name");
+
+            MajorIndexDto latest = new MajorIndexDto(indexInfoId, classification, name,
+                    rs.getObject("period_end", LocalDate.class),
+                    rs.getBigDecimal("versus"), rs.getBigDecimal("fluctuation_rate"), rs.getBigDecimal("close_price"));
+
+            BigDecimal previousClose = rs.getBigDecimal("previous_close_price");
+            MajorIndexDto before = previousClose == null ? null : new MajorIndexDto(indexInfoId, classification, name,
+                    rs.getObject("previous_period_end", LocalDate.class), null, null, previousClose);
+
+            return new MajorIndexSnapshotDto(latest, before);
+        });
+    }
+
+    /** 기간 첫날이 startDate ~ endDate 인 집계 (기간 순) */
+    public List<IndexDataRollupDto> findRange(Long indexInfoId, RollupPeriod period, LocalDate startDate, LocalDate endDate) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("indexInfoId", indexInfoId)
+                .addValue("periodType", period.name())
+                .addValue("startDate", Date.valueOf(startDate))
+                .addValue("endDate", Date.valueOf(endDate));
+
+        return namedParameterJdbcTemplate.query(RANGE_SQL, params, (rs, rowNum) -> IndexDataRollupDto.builder()
+                .indexInfoId(rs.getLong("index_info_id"))
+                .period(period)
+                .periodStart(rs.getObject("period_start", LocalDate.class))
+                .periodEnd(rs.getObject("period_end", LocalDate.class))
+                .tradingDays(rs.getInt("trading_days"))
+                .openPrice(rs.getBigDecimal("open_price"))
+                .highPrice(rs.getBigDecimal("high_price"))
+                .lowPrice(rs.getBigDecimal("low_price"))
+                .closePrice(rs.getBigDecimal("close_price"))
+                .tradingQuantity(rs.getObject("trading_quantity", Long.class))
+                .tradingPrice(rs.getObject("trading_price", Long.class))
+                .previousClosePrice(rs.getBigDecimal("previous_close_price"))
+                .versus(rs.getBigDecimal("versus"))
+                .fluctuationRate(rs.getBigDecimal("fluctuation_rate"))
+                .build());
+    }
+}
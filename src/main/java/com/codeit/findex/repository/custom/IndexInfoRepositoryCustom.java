@@ -1,4 +1,5 @@
 package com.codeit.findex.repository.custom;
+import com.codeit.findex.dto.data.KeysetCursor;
 import com.codeit.findex.dto.request.IndexInfoSearchRequest;
 import com.codeit.findex.entity.IndexInfo;
 import java.util.List;
@@ -10,7 +11,7 @@ import java.util.List;
 public interface IndexInfoRepositoryCustom {
 
   //조건별 목록 반환 메서드
-  List<IndexInfo> findAllWithFilters(IndexInfoSearchRequest param);
+  List<IndexInfo> findAllWithFilters(IndexInfoSearchRequest param, KeysetCursor cursor);
 
  //조건별 갯수 응답용 메서드
   Long countWithFilters(IndexInfoSearchRequest param);
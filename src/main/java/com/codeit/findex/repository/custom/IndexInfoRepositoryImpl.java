@@ -1,11 +1,12 @@
 package com.codeit.findex.repository.custom;
 
+import com.codeit.findex.dto.data.KeysetCursor;
 import com.codeit.findex.dto.request.IndexInfoSearchRequest;
 import com.codeit.findex.entity.IndexInfo;
 import com.codeit.findex.entity.QIndexInfo;
+import com.codeit.findex.repository.cursor.KeysetPredicates;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -33,9 +34,9 @@ public class IndexInfoRepositoryImpl implements IndexInfoRepositoryCustom {
   private final JdbcTemplate jdbcTemplate;
 
 
-  //조건에 따른 지수 목록 조회 메서드 (필터 + 정렬 + 페이지네이션)
+  //조건에 따른 지수 목록 조회 메서드 (필터 + 정렬 + keyset 커서, 다음 페이지 판단용으로 size + 1개 조회)
   @Override
-  public List<IndexInfo> findAllWithFilters(IndexInfoSearchRequest param) {
+  public List<IndexInfo> findAllWithFilters(IndexInfoSearchRequest param, KeysetCursor cursor) {
 
     QIndexInfo indexInfo = QIndexInfo.indexInfo;
     BooleanBuilder where = new BooleanBuilder(); // where 조건 빌드
@@ -43,24 +44,32 @@ public class IndexInfoRepositoryImpl implements IndexInfoRepositoryCustom {
     if(param.indexClassification() != null) where.and(indexInfo.indexClassification.eq(param.indexClassification()));
     if (param.indexName() != null) where.and(indexInfo.indexName.eq(param.indexName()));
     if (param.favorite() != null) where.and(indexInfo.favorite.eq(param.favorite()));
-    if (param.idAfter() != null)  where.and(indexInfo.id.gt(param.idAfter()));
 
-    Order order = "desc".equalsIgnoreCase(param.sortDirection()) ? Order.DESC : Order.ASC;
-    OrderSpecifier<?> orderSpecifier;
+    // 정렬 컬럼 + (정렬 컬럼, id) 행 값 비교 커서 조건
+    boolean descending = "desc".equalsIgnoreCase(param.sortDirection());
+    ComparableExpressionBase<?> sortColumn = sortColumn(param.sortField(), indexInfo);
+    boolean nullable = sortColumn != indexInfo.indexName && sortColumn != indexInfo.id; // index_name, id 외에는 NULL 허용
 
-    switch (param.sortDirection()) {
-      case "indexName" -> orderSpecifier = new OrderSpecifier<>(order, indexInfo.indexName);
-      case "indexClassification" -> orderSpecifier = new OrderSpecifier<>(order, indexInfo.indexClassification);
-      default -> orderSpecifier = new OrderSpecifier<>(Order.ASC, indexInfo.id); // fallback
-    }
+    if (cursor != null) cursor.lastValueAs(sortColumn.getType()); // 커서 정렬값 타입 검증
+    where.and(KeysetPredicates.after(sortColumn, indexInfo.id, cursor, nullable));
 
     return queryFactory.selectFrom(indexInfo)
             .where(where)
-            .orderBy(orderSpecifier)
-            .limit(param.size() != null ? param.size() : 10)
+            .orderBy(KeysetPredicates.orderBy(sortColumn, indexInfo.id, descending, nullable))
+            .limit((param.size() != null ? param.size() : 10) + 1)
             .fetch();
   }
 
+  // 정렬 필드 → 컬럼 (허용되지 않은 필드는 id)
+  private static ComparableExpressionBase<?> sortColumn(String sortField, QIndexInfo indexInfo) {
+    return switch (sortField) {
+      case "indexClassification" -> indexInfo.indexClassification;
+      case "indexName" -> indexInfo.indexName;
+      case "employedItemsCount" -> indexInfo.employedItemsCount;
+      default -> indexInfo.id;
+    };
+  }
+
   // 조건에 따른 전체 개수 응답용 메서드
   @Override
   public Long countWithFilters(IndexInfoSearchRequest param) {
@@ -1,5 +1,6 @@
 package com.codeit.findex.repository.custom;
 
+import com.codeit.findex.dto.data.KeysetCursor;
 import com.codeit.findex.dto.data.SyncJobDto;
 import com.codeit.findex.dto.request.SyncJobSearchRequest;
 import com.codeit.findex.entity.SyncJob;
@@ -7,7 +8,7 @@ import com.codeit.findex.entity.SyncJob;
 import java.util.List;
 
 public interface SyncJobRepositoryCustom {
-    List<SyncJob> search(SyncJobSearchRequest param);
+    List<SyncJob> search(SyncJobSearchRequest param, KeysetCursor cursor);
     long count(SyncJobSearchRequest param);
 
     void saveAllInBatch(List<SyncJobDto> syncJobs);
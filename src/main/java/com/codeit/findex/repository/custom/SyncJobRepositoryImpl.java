@@ -1,12 +1,13 @@
 package com.codeit.findex.repository.custom;
 
+import com.codeit.findex.dto.data.KeysetCursor;
 import com.codeit.findex.dto.data.SyncJobDto;
 import com.codeit.findex.dto.request.SyncJobSearchRequest;
 import com.codeit.findex.entity.QSyncJob;
 import com.codeit.findex.entity.SyncJob;
+import com.codeit.findex.repository.cursor.KeysetPredicates;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
@@ -26,7 +27,7 @@ public class SyncJobRepositoryImpl implements SyncJobRepositoryCustom {
 
 
     @Override
-    public List<SyncJob> search(SyncJobSearchRequest param) {
+    public List<SyncJob> search(SyncJobSearchRequest param, KeysetCursor cursor) {
 
         QSyncJob syncJob = QSyncJob.syncJob;
 
@@ -41,22 +42,20 @@ public class SyncJobRepositoryImpl implements SyncJobRepositoryCustom {
         if (param.jobTimeFrom() != null) where.and(syncJob.jobTime.goe(LocalDateTime.from(param.jobTimeFrom())));
         if (param.jobTimeTo() != null) where.and(syncJob.jobTime.loe(LocalDateTime.from(param.jobTimeTo())));
         if (param.status() != null && !param.status().trim().isBlank()) where.and(syncJob.result.eq(Boolean.valueOf(param.status())));
-        if (param.idAfter() != null) where.and(syncJob.id.gt(param.idAfter()));
 
-        Order order = "desc".equalsIgnoreCase(param.sortDirection()) ? Order.DESC : Order.ASC;
-        OrderSpecifier<?> orderSpecifier;
+        // 2. 정렬 컬럼 + keyset 조건 (정렬 컬럼, id) 행 값 비교
+        boolean descending = "desc".equalsIgnoreCase(param.sortDirection());
+        boolean byTargetDate = "targetDate".equals(param.sortField()); // 그 외에는 jobTime
+        ComparableExpressionBase<?> sortColumn = byTargetDate ? syncJob.targetDate : syncJob.jobTime;
 
-        switch (param.sortDirection()) {
-            case "targetDate" -> orderSpecifier = new OrderSpecifier<>(order, syncJob.targetDate);
-            case "jobTime" -> orderSpecifier = new OrderSpecifier<>(order, syncJob.jobTime);
-            default -> orderSpecifier = new OrderSpecifier<>(Order.ASC, syncJob.jobTime); // fallback
-        }
+        if (cursor != null) cursor.lastValueAs(sortColumn.getType()); // 커서 정렬값 타입 검증
+        where.and(KeysetPredicates.after(sortColumn, syncJob.id, cursor, byTargetDate)); // target_date 는 NULL 허용
 
         int limit = (param.size() != null ? param.size() : 10) + 1;
 
         return queryFactory.selectFrom(syncJob)
                 .where(where)
-                .orderBy(orderSpecifier)
+                .orderBy(KeysetPredicates.orderBy(sortColumn, syncJob.id, descending, byTargetDate))
                 .limit(limit)
                 .fetch();
     }
@@ -0,0 +1,54 @@
+package com.codeit.findex.schedular;
+
+import com.codeit.findex.repository.custom.IndexDataPartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * index_data 연도 파티션을 미리 생성
+ * - 기동 시 한 번 + 매월 1일 실행, 올해 ~ years-ahead 년 뒤까지
+ * - 미리 만들어 두지 않으면 새해 데이터가 기본 파티션(index_data_default)에 쌓임 (생성 시 옮겨지긴 하지만 그만큼 느려짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexDataPartitionScheduler {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final IndexDataPartitionManager indexDataPartitionManager;
+
+    @Value("${findex.partition.years-ahead:1}")
+    private int yearsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "0 30 0 1 * *", zone = "Asia/Seoul")
+    public void runMonthly() {
+        ensurePartitions();
+    }
+
+    private void ensurePartitions() {
+        int currentYear = LocalDate.now(ZONE).getYear();
+        try {
+            List<Integer> created = indexDataPartitionManager.ensureYearPartitions(currentYear, currentYear + Math.max(0, yearsAhead));
+            if (!created.isEmpty()) {
+                log.info("[IndexDataPartition] created partitions for years {}", created);
+            }
+        } catch (Exception e) {
+            log.error("[IndexDataPartition] failed to create partitions", e);
+        }
+    }
+}
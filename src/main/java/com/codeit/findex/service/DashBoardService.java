@@ -2,13 +2,17 @@ package com.codeit.findex.service;
 
 import com.codeit.findex.dto.data.ChartPeriodType;
 import com.codeit.findex.dto.data.IndexChartDto;
+import com.codeit.findex.dto.data.IndexDataRollupDto;
+import com.codeit.findex.dto.data.RollupPeriod;
 import com.codeit.findex.dto.response.IndexDataRank;
 import com.codeit.findex.dto.response.MajorIndexDataResponse;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface DashBoardService {
     List<MajorIndexDataResponse> getMajorIndex(String periodType);
-    IndexChartDto getIndexChart(Long indexInfoId, ChartPeriodType periodType);
+    IndexChartDto getIndexChart(Long indexInfoId, ChartPeriodType periodType, Integer maxPoints);
     List<IndexDataRank> getIndexPerformance(String periodType, int limit);
+    List<IndexDataRollupDto> getIndexRollups(Long indexInfoId, RollupPeriod period, LocalDate startDate, LocalDate endDate);
 }
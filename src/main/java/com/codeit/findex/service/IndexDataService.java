@@ -2,10 +2,13 @@ package com.codeit.findex.service;
 
 import com.codeit.findex.dto.data.CursorPageResponseIndexDataDto;
 import com.codeit.findex.dto.data.IndexDataDto;
+import com.codeit.findex.dto.data.PartitionBy;
 import com.codeit.findex.dto.request.IndexDataCreateRequest;
 import com.codeit.findex.dto.request.IndexDataSearchCondition;
 import com.codeit.findex.dto.request.IndexDataUpdateRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 
 public interface IndexDataService {
@@ -14,4 +17,7 @@ public interface IndexDataService {
     IndexDataDto updateIndexData(Long id, IndexDataUpdateRequest request);
     CursorPageResponseIndexDataDto searchIndexData(IndexDataSearchCondition condition);
     void exportIndexDataToCsv(Writer writer, IndexDataSearchCondition condition);
+    void exportIndexDataToArrow(OutputStream out, IndexDataSearchCondition condition) throws IOException;
+    void exportIndexDataToPartitionedCsv(OutputStream out, IndexDataSearchCondition condition,
+                                         PartitionBy partitionBy) throws IOException;
 }
\ No newline at end of file
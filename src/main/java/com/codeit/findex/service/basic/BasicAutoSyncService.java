@@ -2,6 +2,7 @@ package com.codeit.findex.service.basic;
 
 import com.codeit.findex.dto.data.AutoSyncConfigDto;
 import com.codeit.findex.dto.data.CursorPageResponseAutoSyncConfigDto;
+import com.codeit.findex.dto.data.KeysetCursor;
 import com.codeit.findex.entity.AutoSync;
 import com.codeit.findex.entity.IndexInfo;
 import com.codeit.findex.mapper.AutoSyncMapper;
@@ -64,15 +65,19 @@ public class BasicAutoSyncService implements AutoSyncService { // 서비스 구
         String safeSortField = normalizeSortField(sortField); // 화이트리스트 강제
         boolean asc = !"desc".equalsIgnoreCase(sortDirection); // 정렬 방향 판정
 
-        Object cursorValue = parseCursorValue(cursor, safeSortField); // 정렬값 타입에 맞게 파싱
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor, safeSortField, !asc); // 불투명 커서 디코딩 (정렬 조건 검증)
+        if (keysetCursor == null && idAfter != null) {               // 커서 없이 idAfter 만 오면 해당 행의 정렬값으로 복원
+            keysetCursor = autoSyncRepository.findById(idAfter)
+                    .map(last -> new KeysetCursor(safeSortField, !asc, extractSortValue(last, safeSortField), last.getId()))
+                    .orElse(null);
+        }
 
         Slice<AutoSync> slice = autoSyncRepositoryCustom.findSlice(    // 커스텀 리포지토리 호출
                 indexInfoId,                                          // 지수 필터
                 enabled,                                              // 활성화 필터
                 safeSortField,                                        // 안전한 정렬 필드
                 asc,                                                  // 정렬 방향
-                cursorValue,                                          // 정렬 커서 값
-                idAfter,                                              // 마지막 ID
+                keysetCursor,                                         // 정렬 커서 (정렬값 + 마지막 ID)
                 pageSize                                              // 페이지 크기
         );
 
@@ -88,7 +93,7 @@ public class BasicAutoSyncService implements AutoSyncService { // 서비스 구
             AutoSync last = rows.get(rows.size() - 1);              // 마지막 요소
             if (hasNext) {                                          // ★ 변경 지점: 다음 페이지가 있을 때만 세팅
                 Object sortVal = extractSortValue(last, safeSortField); // 정렬 기준값 추출
-                nextCursor = (sortVal == null) ? null : String.valueOf(sortVal); // 다음 커서값
+                nextCursor = new KeysetCursor(safeSortField, !asc, sortVal, last.getId()).encode(); // 다음 커서 (불투명 토큰)
                 nextIdAfter = last.getId();                         // 다음 시작점 id
             } else {
                 // ★ 변경 지점: 마지막 페이지 → Swagger 예시와 동일하게 null 반환
@@ -156,14 +161,6 @@ public class BasicAutoSyncService implements AutoSyncService { // 서비스 구
         return "indexInfo.indexName";                                 // 비허용 시 기본값
     }
 
-    private Object parseCursorValue(String cursor, String sortField) { // 커서 문자열을 정렬 타입에 맞게 파싱
-        if (!StringUtils.hasText(cursor)) return null;                // 없으면 null
-        if ("enabled".equals(sortField)) {                            // 불리언 정렬이면
-            return Boolean.valueOf(cursor);                           // "true"/"false" → Boolean
-        }
-        return cursor;                                                // 문자열 정렬이면 그대로 반환
-    }
-
     private Object extractSortValue(AutoSync e, String sortField) {   // 엔티티에서 정렬값 추출
         if ("enabled".equals(sortField)) {                            // enabled 케이스
             return Boolean.TRUE.equals(e.getEnabled());               // null-safe 불리언
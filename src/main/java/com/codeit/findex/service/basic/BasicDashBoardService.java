@@ -2,25 +2,24 @@ package com.codeit.findex.service.basic;
 
 import com.codeit.findex.dto.data.ChartPeriodType;
 import com.codeit.findex.dto.data.IndexChartDto;
-import com.codeit.findex.dto.data.MajorIndexDto;
+import com.codeit.findex.dto.data.IndexDataRollupDto;
+import com.codeit.findex.dto.data.MajorIndexSnapshotDto;
+import com.codeit.findex.dto.data.RollupPeriod;
 import com.codeit.findex.dto.response.IndexDataRank;
 import com.codeit.findex.dto.response.MajorIndexDataResponse;
 import com.codeit.findex.entity.IndexInfo;
 import com.codeit.findex.repository.DashBoardRepository;
-import com.codeit.findex.repository.IndexDataRepository;
 import com.codeit.findex.repository.IndexInfoRepository;
+import com.codeit.findex.repository.custom.IndexDataRollupRepository;
 import com.codeit.findex.service.DashBoardService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,7 +27,13 @@ public class BasicDashBoardService implements DashBoardService {
 
     private final IndexInfoRepository indexInfoRepository;
     private final DashBoardRepository dashBoardRepository;
-    private final IndexDataRepository indexDataRepository;
+    private final IndexPerformanceRanking indexPerformanceRanking;
+    private final IndexPeriodSnapshotReader indexPeriodSnapshotReader;
+    private final IndexDataRollupRepository indexDataRollupRepository;
+
+    // 차트 요청에 maxPoints 가 없을 때 사용하는 최대 점 개수
+    @Value("${findex.chart.max-points:500}")
+    private int defaultMaxPoints;
 
     /**
      * 주요 지수
@@ -43,21 +48,21 @@ public class BasicDashBoardService implements DashBoardService {
                 .map(IndexInfo::getId)
                 .toList();
 
-        List<MajorIndexDataResponse> response = null;
-
-        if(periodType.equals("DAILY")) response = dailyMajorIndex(favoriteIds);
-        if(periodType.equals("WEEKLY")) response = weeklyMajorIndex(favoriteIds);
-        if(periodType.equals("MONTHLY")) response = monthlyMajorIndex(favoriteIds);
-
-        return response;
+        return majorIndex(favoriteIds, periodType);
     }
 
     /**
      * 차트조회
+     * - maxPoints 가 없으면 설정값(findex.chart.max-points) 사용
      */
     @Override
-    public IndexChartDto getIndexChart(Long indexInfoId, ChartPeriodType periodType) {
-        IndexChartDto indexChartDto = dashBoardRepository.findIndexChartData(indexInfoId, periodType);
+    public IndexChartDto getIndexChart(Long indexInfoId, ChartPeriodType periodType, Integer maxPoints) {
+        int points = maxPoints != null ? maxPoints : defaultMaxPoints;
+        if (points < 3) {
+            throw new IllegalArgumentException("maxPoints 는 3 이상이어야 합니다: " + points);
+        }
+
+        IndexChartDto indexChartDto = dashBoardRepository.findIndexChartData(indexInfoId, periodType, points);
 
         if (indexChartDto == null) {
             throw new EntityNotFoundException("Cannot find Index Chart with ID: " + indexInfoId);
@@ -66,187 +71,55 @@ public class BasicDashBoardService implements DashBoardService {
         return indexChartDto;
     }
 
+    /**
+     * 지수 성과 순위
+     * - 기간별 등락률 내림차순 상위 limit 개 (IndexPerformanceRanking 에서 유지)
+     */
     @Override
     public List<IndexDataRank> getIndexPerformance(String periodType, int limit) {
-        List<IndexDataRank> response = new ArrayList<>();
-
-        // indexData 테이블에 있는 모든 indexInfoId 조회
-        List<Long> favoriteIds = indexDataRepository.findDistinctIndexInfoIds();
-
-        List<MajorIndexDataResponse> majorDatalist = new ArrayList<>();
-
-        if(periodType.equals("DAILY")) majorDatalist = dailyMajorIndex(favoriteIds);
-        if(periodType.equals("WEEKLY")) majorDatalist = weeklyMajorIndex(favoriteIds);
-        if(periodType.equals("MONTHLY")) majorDatalist = monthlyMajorIndex(favoriteIds);
-
         AtomicInteger counter = new AtomicInteger(1);
 
-        response = majorDatalist.stream()
-                .sorted(Comparator.comparing(MajorIndexDataResponse::currentPrice).reversed()) // 내림차순으로 정렬
-                .map(indexData -> {
-                    return IndexDataRank.builder()
-                            .performance(indexData)
-                            .rank(counter.getAndIncrement())
-                            .build();
-                }).toList();
-
-        return response;
-    }
-
-    /**
-     * 일 별 주요지수
-     * - 오늘 날짜와 어제 날짜 반환
-     * - 계산 필요없이 DB값 그대로, 어제 날짜만 찾으면 됨
-     */
-    private List<MajorIndexDataResponse> dailyMajorIndex(List<Long> favoriteIds) {
-
-        // 1. 오늘의 지수 데이터 조회
-        List<MajorIndexDto> latestMajorIndexList = favoriteIds.stream()
-                .map(dashBoardRepository::getLatestMajorIndexData)
-                .filter(Objects::nonNull)
+        return indexPerformanceRanking.top(periodType, limit).stream()
+                .map(indexData -> IndexDataRank.builder()
+                        .performance(indexData)
+                        .rank(counter.getAndIncrement())
+                        .build())
                 .toList();
-
-        // 2. 어제의 지수 데이터 조회
-        List<MajorIndexDto> beforeDayMajorIndexList = favoriteIds.stream()
-                .map(dashBoardRepository::getBeforeDayMajorIndexData)
-                .filter(Objects::nonNull)
-                .toList();
-
-        List<MajorIndexDataResponse> result = new ArrayList<>();
-
-        // 어제 데이터 Map으로 변환 (key = indexInfoId)
-        Map<Long, MajorIndexDto> beforeMap = beforeDayMajorIndexList.stream()
-                .collect(Collectors.toMap(MajorIndexDto::indexInfoId, dto -> dto));
-
-        // latest 중에서 before 데이터가 있는 경우만 계산
-        for (MajorIndexDto latest : latestMajorIndexList) {
-            MajorIndexDto before = beforeMap.get(latest.indexInfoId());
-            if (before != null) {
-                BigDecimal currentPrice = latest.closingPrice();
-                BigDecimal beforePrice = before.closingPrice();
-
-                // 등락/등락률은 DB에서 가져온 값 대신 직접 계산해도 됨
-                BigDecimal versus = currentPrice.subtract(beforePrice);
-                BigDecimal fluctuationRate = beforePrice.compareTo(BigDecimal.ZERO) == 0
-                        ? BigDecimal.ZERO
-                        : versus.divide(beforePrice, 4, RoundingMode.HALF_UP)
-                        .multiply(BigDecimal.valueOf(100));
-
-                result.add(MajorIndexDataResponse.builder()
-                        .indexInfoId(latest.indexInfoId())
-                        .indexClassification(latest.indexClassification())
-                        .indexName(latest.indexName())
-                        .versus(versus)
-                        .fluctuationRate(fluctuationRate)
-                        .currentPrice(currentPrice)
-                        .beforePrice(beforePrice)
-                        .build());
-            }
-        }
-
-        return result;
     }
 
-
-
     /**
-     * 주 별 주요 지수
+     * 기간(주/월/연) 집계 조회
+     * - 기간 첫날 기준 startDate ~ endDate, 없으면 최근 1년
      */
-    private List<MajorIndexDataResponse> weeklyMajorIndex(List<Long> favoriteIds) {
-        // 1. 오늘의 지수 데이터 조회
-        List<MajorIndexDto> latestMajorIndexList = favoriteIds.stream()
-                .map(dashBoardRepository::getLatestMajorIndexData)
-                .filter(Objects::nonNull)
-                .toList();
-
-        // 2. 일주일 전의 지수 데이터 조회
-        List<MajorIndexDto> beforeWeekMajorIndexList = favoriteIds.stream()
-                .map(dashBoardRepository::getBeforeWeekMajorIndexData)
-                .filter(Objects::nonNull)
-                .toList();
-
-        List<MajorIndexDataResponse> result = new ArrayList<>();
-
-        // before 데이터 Map으로 변환
-        Map<Long, MajorIndexDto> beforeMap = beforeWeekMajorIndexList.stream()
-                .collect(Collectors.toMap(MajorIndexDto::indexInfoId, dto -> dto));
-
-        // latest 중에서 before 데이터가 있는 경우만 처리
-        for (MajorIndexDto latest : latestMajorIndexList) {
-            MajorIndexDto before = beforeMap.get(latest.indexInfoId());
-            if (before != null) {
-                BigDecimal currentPrice = latest.closingPrice();
-                BigDecimal beforePrice = before.closingPrice();
-                BigDecimal versus = currentPrice.subtract(beforePrice);
-                BigDecimal fluctuationRate = beforePrice.compareTo(BigDecimal.ZERO) == 0
-                        ? BigDecimal.ZERO
-                        : versus.divide(beforePrice, 4, RoundingMode.HALF_UP)
-                        .multiply(BigDecimal.valueOf(100));
-
-                result.add(MajorIndexDataResponse.builder()
-                        .indexInfoId(latest.indexInfoId())
-                        .indexClassification(latest.indexClassification())
-                        .indexName(latest.indexName())
-                        .versus(versus)
-                        .fluctuationRate(fluctuationRate)
-                        .currentPrice(currentPrice)
-                        .beforePrice(beforePrice)
-                        .build());
-            }
+    @Override
+    public List<IndexDataRollupDto> getIndexRollups(Long indexInfoId, RollupPeriod period, LocalDate startDate, LocalDate endDate) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusYears(1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("startDate 는 endDate 보다 늦을 수 없습니다.");
+        }
+        if (!indexInfoRepository.existsById(indexInfoId)) {
+            throw new EntityNotFoundException("해당 ID의 지수 정보를 찾을 수 없습니다: " + indexInfoId);
         }
 
-        return result;
+        // 시작일이 기간 중간이면 그 날짜가 속한 기간부터
+        return indexDataRollupRepository.findRange(indexInfoId, period, period.startOf(start), end);
     }
 
-
     /**
-     * 월 별 주요 지수
+     * 최신 데이터와 기간별 비교 대상의 등락/등락률 계산
+     * - DAILY 는 바로 전 거래일, WEEKLY/MONTHLY 는 직전 달력 주/월의 마지막 거래일 (기간 집계 테이블)
+     * - 이전 데이터가 없는 지수는 제외
      */
-    private List<MajorIndexDataResponse> monthlyMajorIndex(List<Long> favoriteIds) {
-        // 1. 오늘의 지수 데이터 조회
-        List<MajorIndexDto> latestMajorIndexList = favoriteIds.stream()
-                .map(dashBoardRepository::getLatestMajorIndexData)
-                .filter(Objects::nonNull)
-                .toList();
+    private List<MajorIndexDataResponse> majorIndex(List<Long> indexInfoIds, String periodType) {
+        List<MajorIndexDataResponse> result = new ArrayList<>();
 
-        // 2. 한 달 전의 지수 데이터
-        List<MajorIndexDto> beforeMonthMajorIndexList = favoriteIds.stream()
-                .map(dashBoardRepository::getBeforeMonthMajorIndexData)
-                .filter(Objects::nonNull)
-                .toList();
+        for (MajorIndexSnapshotDto snapshot : indexPeriodSnapshotReader.find(periodType, indexInfoIds)) {
+            if (!IndexPerformanceCalculator.isCalculable(snapshot)) continue;
 
-        List<MajorIndexDataResponse> result = new ArrayList<>(); // 없으면 빈 문자열 넘겨주기
-
-        Map<Long, MajorIndexDto> beforeMap = beforeMonthMajorIndexList.stream()
-                .collect(Collectors.toMap(MajorIndexDto::indexInfoId, dto -> dto));
-
-        List<MajorIndexDto> existedLatestMajorIndex = latestMajorIndexList.stream()
-                .filter(latest -> beforeMap.containsKey(latest.indexInfoId())).toList();
-
-        for(MajorIndexDto latest : existedLatestMajorIndex) {
-            for(MajorIndexDto before : beforeMap.values()) {
-                if(latest.indexInfoId().equals(before.indexInfoId())) {
-                    BigDecimal currentPrice = latest.closingPrice();
-                    BigDecimal beforePrice = before.closingPrice();
-                    BigDecimal versus = currentPrice.subtract(beforePrice);
-                    BigDecimal fluctuationRate = beforePrice.compareTo(BigDecimal.ZERO) == 0
-                            ? BigDecimal.ZERO
-                            : versus.divide(beforePrice, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100));
-
-                    result.add(MajorIndexDataResponse.builder()
-                            .indexInfoId(latest.indexInfoId())
-                            .indexClassification(latest.indexClassification())
-                            .indexName(latest.indexName())
-                            .versus(versus)
-                            .fluctuationRate(fluctuationRate)
-                            .currentPrice(currentPrice)
-                            .beforePrice(beforePrice)
-                            .build());
-                }
-            }
+            result.add(IndexPerformanceCalculator.calculate(snapshot.latest(), snapshot.before()));
         }
+
         return result;
     }
-
-
 }
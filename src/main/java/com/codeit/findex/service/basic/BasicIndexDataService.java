@@ -2,6 +2,8 @@ package com.codeit.findex.service.basic;
 
 import com.codeit.findex.dto.data.CursorPageResponseIndexDataDto;
 import com.codeit.findex.dto.data.IndexDataDto;
+import com.codeit.findex.dto.data.KeysetCursor;
+import com.codeit.findex.dto.data.PartitionBy;
 import com.codeit.findex.dto.request.IndexDataCreateRequest;
 import com.codeit.findex.dto.request.IndexDataSearchCondition;
 import com.codeit.findex.dto.request.IndexDataUpdateRequest;
@@ -11,22 +13,29 @@ import com.codeit.findex.entity.SourceType;
 import com.codeit.findex.mapper.IndexDataMapper;
 import com.codeit.findex.repository.IndexDataRepository;
 import com.codeit.findex.repository.IndexInfoRepository;
+import com.codeit.findex.repository.cache.IndexDataSeriesCache;
+import com.codeit.findex.repository.custom.IndexDataExportReader;
+import com.codeit.findex.repository.custom.IndexDataRollupRepository;
 import com.codeit.findex.service.IndexDataService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -37,6 +46,12 @@ public class BasicIndexDataService implements IndexDataService {
     private final IndexDataRepository indexDataRepository;
     private final IndexInfoRepository indexInfoRepository;
     private final IndexDataMapper indexDataMapper;
+    private final IndexDataSeriesCache seriesCache;
+    private final IndexDataExportReader indexDataExportReader;
+    private final IndexDataArrowExporter indexDataArrowExporter;
+    private final IndexDataPartitionedExporter indexDataPartitionedExporter;
+    private final IndexDataCounter indexDataCounter;
+    private final IndexDataRollupRepository indexDataRollupRepository;
 
     @Override
     @Transactional
@@ -49,7 +64,9 @@ public class BasicIndexDataService implements IndexDataService {
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 지수 정보를 찾을 수 없습니다: " + request.indexInfoId()));
 
         IndexData indexData = indexDataMapper.toEntity(request, indexInfo, SourceType.USER);
-        IndexData savedIndexData = indexDataRepository.save(indexData);
+        IndexData savedIndexData = indexDataRepository.saveAndFlush(indexData);
+        indexDataRollupRepository.refresh(indexInfo.getId(), savedIndexData.getBaseDate(), savedIndexData.getBaseDate());
+        seriesCache.invalidate(indexInfo.getId());
 
         return indexDataMapper.toDto(savedIndexData);
     }
@@ -75,6 +92,9 @@ public class BasicIndexDataService implements IndexDataService {
                 Objects.requireNonNullElse(request.tradingPrice(), indexData.getTradingPrice()),
                 Objects.requireNonNullElse(request.marketTotalAmount(), indexData.getMarketTotalAmount())
         );
+        indexDataRepository.flush(); // 기간 집계는 JDBC 로 다시 계산하므로 변경 내용을 먼저 반영
+        indexDataRollupRepository.refresh(indexData.getIndexInfo().getId(), indexData.getBaseDate(), indexData.getBaseDate());
+        seriesCache.invalidate(indexData.getIndexInfo().getId());
 
         return indexDataMapper.toDto(indexData);
     }
@@ -82,10 +102,12 @@ public class BasicIndexDataService implements IndexDataService {
     @Override
     @Transactional
     public void deleteIndexData(Long id) {
-        if (!indexDataRepository.existsById(id)) {
-            throw new EntityNotFoundException("해당 ID의 주가 데이터를 찾을 수 없습니다: " + id);
-        }
-        indexDataRepository.deleteById(id);
+        IndexData indexData = indexDataRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 주가 데이터를 찾을 수 없습니다: " + id));
+        indexDataRepository.delete(indexData);
+        indexDataRepository.flush();
+        indexDataRollupRepository.refresh(indexData.getIndexInfo().getId(), indexData.getBaseDate(), indexData.getBaseDate());
+        seriesCache.invalidate(indexData.getIndexInfo().getId());
     }
 
     /**
@@ -98,15 +120,18 @@ public class BasicIndexDataService implements IndexDataService {
         log.debug("Starting search with condition - cursor: {}, sortField: {}, sortDirection: {}, size: {}", 
                  condition.cursor(), condition.sortField(), condition.sortDirection(), condition.size());
 
-        // 1. QueryDSL Slice 패턴으로 데이터 조회
+        // 1. 전체 개수는 전략에 따라 별도 스레드에서 동시에 계산
+        CompletableFuture<Long> totalElementsFuture = indexDataCounter.countAsync(condition);
+
+        // 2. QueryDSL Slice 패턴으로 데이터 조회
         Slice<IndexData> slice = indexDataRepository.findSlice(condition);
         
-        // 2. 엔티티 → DTO 변환
+        // 3. 엔티티 → DTO 변환
         List<IndexDataDto> content = slice.getContent().stream()
                 .map(indexDataMapper::toDto)
                 .toList();
 
-        // 3. 다음 커서 생성 (간단한 "value_id" 형태)
+        // 4. 다음 커서 생성 (정렬 조건 + 마지막 정렬값/id 를 담은 불투명 keyset 커서)
         String nextCursor = null;
         Long nextIdAfter = null;
         
@@ -114,15 +139,14 @@ public class BasicIndexDataService implements IndexDataService {
             IndexDataDto lastItem = content.get(content.size() - 1);
             Object sortValue = extractSortValue(lastItem, condition.sortField());
             
-            // 단순한 "sortValue_id" 형태의 커서
-            nextCursor = String.format("%s_%d", sortValue.toString(), lastItem.id());
+            nextCursor = new KeysetCursor(condition.sortField(), condition.isDescending(), sortValue, lastItem.id()).encode();
             nextIdAfter = lastItem.id();
             
             log.debug("Generated next cursor: {}, nextIdAfter: {}", nextCursor, nextIdAfter);
         }
 
-        // 4. 전체 개수 조회 (필요한 경우에만)
-        long totalElements = indexDataRepository.count(condition);
+        // 5. 전체 개수 (NONE 이면 null)
+        Long totalElements = totalElementsFuture.join();
 
         CursorPageResponseIndexDataDto response = new CursorPageResponseIndexDataDto(
                 content,
@@ -152,7 +176,7 @@ public class BasicIndexDataService implements IndexDataService {
             case "tradingQuantity" -> dto.tradingQuantity();
             case "tradingPrice" -> dto.tradingPrice();
             case "marketTotalAmount" -> dto.marketTotalAmount();
-            default -> dto.id(); // fallback
+            default -> throw new IllegalArgumentException("허용되지 않은 정렬 필드입니다: " + sortField);
         };
     }
 
@@ -171,32 +195,52 @@ public class BasicIndexDataService implements IndexDataService {
         return request.marketTotalAmount() != null && !indexData.getMarketTotalAmount().equals(request.marketTotalAmount());
     }
 
+    /**
+     * CSV 내보내기
+     * - DB 커서에서 한 행씩 읽어 바로 writer 로 출력 (엔티티/DTO 리스트를 만들지 않음)
+     * - IndexDataCsv.FLUSH_INTERVAL 행마다 flush 해서 첫 응답이 바로 나가고 버퍼가 쌓이지 않도록 함
+     */
     @Override
     @Transactional(readOnly = true)
     public void exportIndexDataToCsv(Writer writer, IndexDataSearchCondition condition) {
-        List<IndexData> indexDataList = indexDataRepository.findAllByCondition(condition);
-        List<IndexDataDto> indexDataDtoList = indexDataMapper.toDtoList(indexDataList);
-
-        String[] headers = {"baseDate", "marketPrice", "closingPrice", "highPrice", "lowPrice", 
-                           "versus", "fluctuationRate", "tradingQuantity", "tradingPrice", "marketTotalAmount"};
-
-        try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(headers))) {
-            for (IndexDataDto dto : indexDataDtoList) {
-                csvPrinter.printRecord(
-                        dto.baseDate(),
-                        dto.marketPrice(),
-                        dto.closingPrice(),
-                        dto.highPrice(),
-                        dto.lowPrice(),
-                        dto.versus(),
-                        dto.fluctuationRate(),
-                        dto.tradingQuantity(),
-                        dto.tradingPrice(),
-                        dto.marketTotalAmount()
-                );
-            }
-        } catch (IOException e) {
+        try (CSVPrinter csvPrinter = IndexDataCsv.printer(writer)) {
+            csvPrinter.flush();
+
+            int[] written = {0};
+            indexDataExportReader.forEachRow(condition, rs -> {
+                try {
+                    IndexDataCsv.printRow(csvPrinter, rs);
+                    if (++written[0] % IndexDataCsv.FLUSH_INTERVAL == 0) {
+                        csvPrinter.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            log.debug("CSV export completed - rows: {}", written[0]);
+        } catch (IOException | UncheckedIOException e) {
             throw new RuntimeException("CSV export failed", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Arrow IPC stream 내보내기 (CSV 와 같은 검색 조건)
+     * - REPEATABLE READ: 지수 id 사전 조회와 데이터 커서가 같은 스냅샷을 보도록 (사이에 새 지수 데이터가 들어와도 사전과 어긋나지 않음)
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportIndexDataToArrow(OutputStream out, IndexDataSearchCondition condition) throws IOException {
+        indexDataArrowExporter.export(out, condition);
+    }
+
+    /**
+     * 분할 CSV 내보내기 (zip, 파티션별로 별도 트랜잭션에서 조회하므로 여기서는 트랜잭션을 열지 않음)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportIndexDataToPartitionedCsv(OutputStream out, IndexDataSearchCondition condition,
+                                                PartitionBy partitionBy) throws IOException {
+        indexDataPartitionedExporter.export(out, condition, partitionBy);
+    }
+}
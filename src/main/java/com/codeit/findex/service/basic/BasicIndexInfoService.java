@@ -3,21 +3,22 @@ package com.codeit.findex.service.basic;
 import com.codeit.findex.dto.data.CursorPageResponseIndexInfoDto;
 import com.codeit.findex.dto.data.IndexInfoDto;
 import com.codeit.findex.dto.data.IndexInfoSummaryDto;
+import com.codeit.findex.dto.data.KeysetCursor;
 import com.codeit.findex.dto.request.IndexInfoCreateRequest;
 import com.codeit.findex.dto.request.IndexInfoSearchRequest;
 import com.codeit.findex.dto.request.IndexInfoUpdateRequest;
 import com.codeit.findex.entity.IndexInfo;
 import com.codeit.findex.mapper.IndexInfoMapper;
 import com.codeit.findex.repository.IndexInfoRepository;
+import com.codeit.findex.repository.cache.IndexDataSeriesCache;
 import com.codeit.findex.service.IndexInfoService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Base64;
+import java.util.ArrayList;
 import java.util.List;
 
 /* 지수 정보 구현체
@@ -30,12 +31,15 @@ public class BasicIndexInfoService implements IndexInfoService {
 
   private final IndexInfoRepository indexInfoRepository;
   private final IndexInfoMapper indexInfoMapper;
+  private final IndexInfoLookup indexInfoLookup; // 연동용 (분류명, 지수명) 조회 캐시
+  private final IndexDataSeriesCache seriesCache;  // 차트/순위 조회용 시계열 캐시
 
   //등록
   @Override
   public IndexInfoDto createIndexInfo(IndexInfoCreateRequest request) {
     IndexInfo entity = indexInfoMapper.toEntity(request); // 1. 요청 request를 엔티티로 변환
     IndexInfo saved = indexInfoRepository.save(entity); //2. DB 저장
+    indexInfoLookup.invalidate();
     return indexInfoMapper.toDto(saved); // 3. 엔티티를 응답dto로 변환
   }
 
@@ -61,6 +65,7 @@ public class BasicIndexInfoService implements IndexInfoService {
 
     // 3. DB에 저장
     IndexInfo updated = indexInfoRepository.save(indexInfo);
+    indexInfoLookup.invalidate();
 
     // 4. DTO 변환해서 반환
     return indexInfoMapper.toDto(updated);
@@ -73,6 +78,8 @@ public class BasicIndexInfoService implements IndexInfoService {
     IndexInfo indexInfo = indexInfoRepository.findById(id)
         .orElseThrow(() -> new RuntimeException("지수 정보 찾을 수 없음"));
     indexInfoRepository.delete(indexInfo);
+    indexInfoLookup.invalidate();
+    seriesCache.remove(id); // ON DELETE CASCADE 로 지수 데이터도 함께 삭제됨
   }
 
 
@@ -88,17 +95,21 @@ public class BasicIndexInfoService implements IndexInfoService {
   @Override
   public CursorPageResponseIndexInfoDto getIndexInfoList(IndexInfoSearchRequest param) {
 
-    if(param.cursor()!= null) {
-      byte[] decodedCursor = Base64.getDecoder().decode(param.cursor());
-      String cursorStr = new String(decodedCursor, StandardCharsets.UTF_8);
+    //1. 커서 해석 (cursor 우선, 없으면 idAfter 행의 정렬값으로 커서 복원)
+    boolean descending = "desc".equalsIgnoreCase(param.sortDirection());
+    KeysetCursor cursor = KeysetCursor.decode(param.cursor(), param.sortField(), descending);
+    if (cursor == null && param.idAfter() != null) {
+      cursor = indexInfoRepository.findById(param.idAfter())
+              .map(info -> toCursor(info, param.sortField(), descending))
+              .orElse(null);
     }
 
-    //1. 쿼리로 데이터 조회
-    List<IndexInfo> indexInfoList = indexInfoRepository.findAllWithFilters(param);
+    //2. 쿼리로 데이터 조회 (size + 1개)
+    List<IndexInfo> indexInfoList = new ArrayList<>(indexInfoRepository.findAllWithFilters(param, cursor));
     Long total = indexInfoRepository.countWithFilters(param);
 
     // 다음 page 존재 여부
-    boolean hasNext = indexInfoList.size() == param.size();
+    boolean hasNext = indexInfoList.size() > param.size();
     if (hasNext) indexInfoList.remove(indexInfoList.size() - 1);
 
     List<IndexInfoDto> content = indexInfoList.stream().map(indexInfoMapper::toDto).toList();
@@ -108,8 +119,7 @@ public class BasicIndexInfoService implements IndexInfoService {
 
     if (hasNext) {
       IndexInfo lastItem = indexInfoList.get(indexInfoList.size() - 1);
-      String cursorJson = String.format("{\"id\":%d}", lastItem.getId());
-      nextCursor = Base64.getEncoder().encodeToString(cursorJson.getBytes(StandardCharsets.UTF_8)); // 한글이 아닌 Base64 토큰으로 반환
+      nextCursor = toCursor(lastItem, param.sortField(), descending).encode(); // 정렬값 + id 를 담은 불투명 토큰
       nextIdAfter = lastItem.getId();
     }
 
@@ -125,6 +135,17 @@ public class BasicIndexInfoService implements IndexInfoService {
 
    }
 
+  // 정렬 필드에 해당하는 값으로 커서 생성 (IndexInfoRepositoryImpl.sortColumn 과 같은 규칙)
+  private KeysetCursor toCursor(IndexInfo info, String sortField, boolean descending) {
+    Object sortValue = switch (sortField) {
+      case "indexClassification" -> info.getIndexClassification();
+      case "indexName" -> info.getIndexName();
+      case "employedItemsCount" -> info.getEmployedItemsCount();
+      default -> info.getId();
+    };
+    return new KeysetCursor(sortField, descending, sortValue, info.getId());
+  }
+
    //요약 목록 조회
   @Override
   public List<IndexInfoSummaryDto> getIndexInfoSummaries() {
@@ -1,6 +1,7 @@
 package com.codeit.findex.service.basic;
 
 import com.codeit.findex.dto.data.CursorPageResponseSyncJobDto;
+import com.codeit.findex.dto.data.KeysetCursor;
 import com.codeit.findex.dto.data.SyncJobDto;
 import com.codeit.findex.dto.request.IndexDataSyncRequest;
 import com.codeit.findex.dto.request.SyncJobSearchRequest;
@@ -17,11 +18,9 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -83,8 +82,9 @@ public class BasicSyncJobService implements SyncJobService {
     @Transactional
     public List<SyncJobDto> createSyncJobsOfIndexData(String workerId, IndexDataSyncRequest request) {
 
-        // 1. IndexData 조회
-        List<IndexData> indexDataLists = indexDataRepository.findByIndexInfo_IdIn(request.indexInfoIds());
+        // 1. IndexData 조회 (요청 기간만 → 해당 연도 파티션만 읽음)
+        List<IndexData> indexDataLists = indexDataRepository.findByIndexInfo_IdInAndBaseDateBetween(
+                request.indexInfoIds(), LocalDate.parse(request.baseDateFrom()), LocalDate.parse(request.baseDateTo()));
 
         // 2. 기존 SyncJob 조회
         List<SyncJob> existingJobs = syncJobRepository.findByJobTypeAndIndexInfo_IdIn(
@@ -131,16 +131,20 @@ public class BasicSyncJobService implements SyncJobService {
     @Override
     public CursorPageResponseSyncJobDto findAll(SyncJobSearchRequest param) {
 
-        if(param.cursor()!= null) {
-            byte[] decodedCursor = Base64.getDecoder().decode(param.cursor());
-            String cursorStr = new String(decodedCursor, StandardCharsets.UTF_8);
+        // 1. 커서 해석 (cursor 우선, 없으면 idAfter 행의 정렬값으로 커서 복원)
+        boolean descending = "desc".equalsIgnoreCase(param.sortDirection());
+        KeysetCursor cursor = KeysetCursor.decode(param.cursor(), param.sortField(), descending);
+        if (cursor == null && param.idAfter() != null) {
+            cursor = syncJobRepository.findById(param.idAfter())
+                    .map(job -> toCursor(job, param.sortField(), descending))
+                    .orElse(null);
         }
 
-        // 1. 쿼리로 데이터 조회
-        List<SyncJob> syncJobList = syncJobRepository.search(param);
+        // 2. 쿼리로 데이터 조회
+        List<SyncJob> syncJobList = new ArrayList<>(syncJobRepository.search(param, cursor));
         long total = syncJobRepository.count(param);
 
-        // 2. 다음 페이지 존재여부 확인
+        // 3. 다음 페이지 존재여부 확인
         boolean hasNext = syncJobList.size() > param.size();
         if (hasNext) syncJobList.remove(syncJobList.size() - 1);
 
@@ -151,8 +155,7 @@ public class BasicSyncJobService implements SyncJobService {
 
         if(hasNext) {
             SyncJob lastItem = syncJobList.get(syncJobList.size() - 1);
-            String cursorJson = String.format("{\"id\":%d}", lastItem.getId());
-            nextCursor = Base64.getEncoder().encodeToString(cursorJson.getBytes());
+            nextCursor = toCursor(lastItem, param.sortField(), descending).encode();
             nextIdAfter = lastItem.getId();
         }
 
@@ -165,4 +168,10 @@ public class BasicSyncJobService implements SyncJobService {
                 .hasNext(hasNext)
                 .build();
     }
-}
\ No newline at end of file
+
+    // 정렬 필드가 targetDate 가 아니면 jobTime 기준 (SyncJobRepositoryImpl 과 동일)
+    private KeysetCursor toCursor(SyncJob job, String sortField, boolean descending) {
+        Object sortValue = "targetDate".equals(sortField) ? job.getTargetDate() : job.getJobTime();
+        return new KeysetCursor(sortField, descending, sortValue, job.getId());
+    }
+}
@@ -0,0 +1,197 @@
+package com.codeit.findex.service.basic;
+
+import com.codeit.findex.dto.request.IndexDataSearchCondition;
+import com.codeit.findex.repository.custom.IndexDataExportReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * index_data 를 Apache Arrow IPC stream 형식으로 내보내기
+ * - index_info_id: 요청 범위의 지수 id 사전(dictionary) + int32 인덱스
+ * - base_date: int32 epoch day (Arrow Date(DAY))
+ * - 가격: Decimal(20, 4), 거래량/거래대금/시가총액: int64
+ * - CSV 내보내기와 같은 DB 커서를 사용하고, batch-size 행마다 record batch 를 써서 메모리 사용량이 일정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexDataArrowExporter {
+
+    private static final int PRICE_PRECISION = 20;
+    private static final int PRICE_SCALE = 4;
+    private static final long INDEX_INFO_DICTIONARY_ID = 0L;
+
+    private final IndexDataExportReader indexDataExportReader;
+
+    @Value("${findex.export.arrow-batch-size:8192}")
+    private int batchSize;
+
+    /**
+     * 호출하는 쪽에서 REPEATABLE READ 읽기 트랜잭션을 열어야 함
+     * - DB 커서 fetch size 적용
+     * - 사전 조회와 커서가 같은 스냅샷을 봐야 커서의 모든 지수 id 가 사전에 있음
+     */
+    public void export(OutputStream out, IndexDataSearchCondition condition) throws IOException {
+        DictionaryEncoding indexInfoEncoding = new DictionaryEncoding(INDEX_INFO_DICTIONARY_ID, false, new ArrowType.Int(32, true));
+        Schema schema = new Schema(List.of(
+                new Field("index_info_id", new FieldType(false, new ArrowType.Int(32, true), indexInfoEncoding), null),
+                new Field("base_date", FieldType.notNullable(new ArrowType.Date(DateUnit.DAY)), null),
+                decimalField("market_price"),
+                decimalField("closing_price"),
+                decimalField("high_price"),
+                decimalField("low_price"),
+                decimalField("versus"),
+                decimalField("fluctuation_rate"),
+                longField("trading_quantity"),
+                longField("trading_price"),
+                longField("market_total_amount")
+        ));
+
+        try (BufferAllocator allocator = new RootAllocator();
+             BigIntVector dictionaryValues = new BigIntVector("index_info_id", allocator)) {
+
+            // 1. 지수 id 사전 (stream 형식은 record batch 보다 사전을 먼저 써야 하므로 커서와 같은 트랜잭션에서 미리 조회)
+            List<Long> indexInfoIds = indexDataExportReader.findIndexInfoIds(condition);
+            Map<Long, Integer> dictionaryIndex = new HashMap<>(indexInfoIds.size() * 2);
+            dictionaryValues.allocateNew(indexInfoIds.size());
+            for (int i = 0; i < indexInfoIds.size(); i++) {
+                dictionaryValues.set(i, indexInfoIds.get(i));
+                dictionaryIndex.put(indexInfoIds.get(i), i);
+            }
+            dictionaryValues.setValueCount(indexInfoIds.size());
+            DictionaryProvider provider = new DictionaryProvider.MapDictionaryProvider(new Dictionary(dictionaryValues, indexInfoEncoding));
+
+            // 2. 커서에서 읽은 행을 batch-size 단위로 record batch 로 출력
+            try (VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+                 ArrowStreamWriter writer = new ArrowStreamWriter(root, provider, out)) {
+                writer.start();
+
+                BatchFiller filler = new BatchFiller(root, dictionaryIndex);
+                long[] written = {0};
+                root.allocateNew();
+
+                indexDataExportReader.forEachRow(condition, rs -> {
+                    filler.append(rs);
+                    if (filler.rowCount == batchSize) {
+                        written[0] += flushBatch(root, writer, filler, out);
+                    }
+                });
+                if (filler.rowCount > 0) {
+                    written[0] += flushBatch(root, writer, filler, out);
+                }
+
+                writer.end();
+                log.debug("Arrow export completed - rows: {}, dictionary: {}", written[0], indexInfoIds.size());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static int flushBatch(VectorSchemaRoot root, ArrowStreamWriter writer, BatchFiller filler, OutputStream out) {
+        int rows = filler.rowCount;
+        try {
+            root.setRowCount(rows);
+            writer.writeBatch();
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        root.allocateNew();
+        filler.rowCount = 0;
+        return rows;
+    }
+
+    private static Field decimalField(String name) {
+        return new Field(name, FieldType.nullable(new ArrowType.Decimal(PRICE_PRECISION, PRICE_SCALE, 128)), null);
+    }
+
+    private static Field longField(String name) {
+        return new Field(name, FieldType.nullable(new ArrowType.Int(64, true)), null);
+    }
+
+    /** 현재 record batch 의 벡터에 ResultSet 한 행씩 채움 */
+    private static final class BatchFiller {
+
+        private final Map<Long, Integer> dictionaryIndex;
+        private final IntVector indexInfoIds;
+        private final DateDayVector baseDates;
+        private final DecimalVector[] decimals;
+        private final BigIntVector[] longs;
+        private int rowCount;
+
+        BatchFiller(VectorSchemaRoot root, Map<Long, Integer> dictionaryIndex) {
+            this.dictionaryIndex = dictionaryIndex;
+            this.indexInfoIds = (IntVector) root.getVector("index_info_id");
+            this.baseDates = (DateDayVector) root.getVector("base_date");
+            this.decimals = new DecimalVector[]{
+                    (DecimalVector) root.getVector("market_price"),
+                    (DecimalVector) root.getVector("closing_price"),
+                    (DecimalVector) root.getVector("high_price"),
+                    (DecimalVector) root.getVector("low_price"),
+                    (DecimalVector) root.getVector("versus"),
+                    (DecimalVector) root.getVector("fluctuation_rate")
+            };
+            this.longs = new BigIntVector[]{
+                    (BigIntVector) root.getVector("trading_quantity"),
+                    (BigIntVector) root.getVector("trading_price"),
+                    (BigIntVector) root.getVector("market_total_amount")
+            };
+        }
+
+        void append(ResultSet rs) throws SQLException {
+            int row = rowCount;
+
+            long indexInfoId = rs.getLong(IndexDataExportReader.INDEX_INFO_ID);
+            Integer encoded = dictionaryIndex.get(indexInfoId);
+            if (encoded == null) {
+                // 사전과 커서의 스냅샷이 다른 경우 (REPEATABLE READ 트랜잭션 밖에서 호출)
+                throw new IllegalStateException("지수 id 사전에 없는 데이터입니다: " + indexInfoId);
+            }
+            indexInfoIds.setSafe(row, encoded);
+            baseDates.setSafe(row, (int) rs.getDate(IndexDataExportReader.BASE_DATE).toLocalDate().toEpochDay());
+
+            for (int i = 0; i < decimals.length; i++) {
+                BigDecimal value = rs.getBigDecimal(IndexDataExportReader.MARKET_PRICE + i);
+                if (value == null) decimals[i].setNull(row);
+                else decimals[i].setSafe(row, value.setScale(PRICE_SCALE, RoundingMode.HALF_UP));
+            }
+            for (int i = 0; i < longs.length; i++) {
+                long value = rs.getLong(IndexDataExportReader.TRADING_QUANTITY + i);
+                if (rs.wasNull()) longs[i].setNull(row);
+                else longs[i].setSafe(row, value);
+            }
+
+            rowCount++;
+        }
+    }
+}
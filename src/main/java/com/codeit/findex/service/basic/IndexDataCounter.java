@@ -0,0 +1,109 @@
+package com.codeit.findex.service.basic;
+
+import com.codeit.findex.dto.data.CountStrategy;
+import com.codeit.findex.dto.request.IndexDataSearchCondition;
+import com.codeit.findex.repository.IndexDataRepository;
+import com.codeit.findex.repository.cache.IndexDataChangedEvent;
+import com.codeit.findex.repository.custom.IndexDataCountEstimator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지수 데이터 검색의 전체 개수(totalElements) 계산
+ * - 전략(CountStrategy)은 요청마다 선택 가능하고, 없으면 설정값 사용
+ * - COUNT 가 필요하면 별도 스레드에서 시작해서 슬라이스 조회와 동시에 실행
+ * - CACHED: (지수, 시작일, 종료일) 키로 TTL 동안 재사용, 해당 지수 데이터가 바뀌면 바로 제거
+ */
+@Slf4j
+@Component
+public class IndexDataCounter {
+
+    private static final int MAX_CACHED_KEYS = 1000;
+
+    private final IndexDataRepository indexDataRepository;
+    private final IndexDataCountEstimator indexDataCountEstimator;
+    private final CountStrategy defaultStrategy;
+    private final long ttlNanos;
+    private final ExecutorService countExecutor;
+
+    private record CountKey(Long indexInfoId, LocalDate startDate, LocalDate endDate) {}
+
+    private record CachedCount(long count, long expiresAt) {}
+
+    private final Map<CountKey, CachedCount> cache = new ConcurrentHashMap<>();
+
+    public IndexDataCounter(IndexDataRepository indexDataRepository,
+                            IndexDataCountEstimator indexDataCountEstimator,
+                            @Value("${findex.search.count-strategy:EXACT}") CountStrategy defaultStrategy,
+                            @Value("${findex.search.count-cache-ttl:60s}") Duration ttl,
+                            @Value("${findex.search.count-concurrency:4}") int concurrency) {
+        this.indexDataRepository = indexDataRepository;
+        this.indexDataCountEstimator = indexDataCountEstimator;
+        this.defaultStrategy = defaultStrategy;
+        this.ttlNanos = ttl.toNanos();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.countExecutor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "index-data-count-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        countExecutor.shutdownNow();
+    }
+
+    /**
+     * 전략에 맞게 개수 계산을 시작 (NONE 이면 null 로 완료)
+     * - 슬라이스 조회 전에 호출하고, 조회가 끝난 뒤 join
+     */
+    public CompletableFuture<Long> countAsync(IndexDataSearchCondition condition) {
+        CountStrategy strategy = Objects.requireNonNullElse(condition.countStrategy(), defaultStrategy);
+        CountKey key = new CountKey(condition.indexInfoId(), condition.startDate(), condition.endDate());
+
+        return switch (strategy) {
+            case NONE -> CompletableFuture.completedFuture(null);
+            case EXACT -> exactAsync(condition);
+            case ESTIMATED -> CompletableFuture.supplyAsync(() -> indexDataCountEstimator.estimate(condition), countExecutor)
+                    .thenCompose(estimate -> estimate.isPresent()
+                            ? CompletableFuture.completedFuture(estimate.getAsLong())
+                            : exactAsync(condition));
+            case CACHED -> {
+                CachedCount cached = cache.get(key);
+                if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+                    yield CompletableFuture.completedFuture(cached.count());
+                }
+                yield exactAsync(condition).thenApply(count -> {
+                    if (cache.size() >= MAX_CACHED_KEYS) cache.clear(); // 기간 조합이 많아져도 메모리가 늘지 않도록
+                    cache.put(key, new CachedCount(count, System.nanoTime() + ttlNanos));
+                    return count;
+                });
+            }
+        };
+    }
+
+    private CompletableFuture<Long> exactAsync(IndexDataSearchCondition condition) {
+        return CompletableFuture.supplyAsync(() -> indexDataRepository.count(condition), countExecutor);
+    }
+
+    /** 지수 데이터가 바뀌면 해당 지수와 전체(지수 미지정) 조건의 캐시를 제거 */
+    @EventListener
+    public void onIndexDataChanged(IndexDataChangedEvent event) {
+        cache.keySet().removeIf(key -> key.indexInfoId() == null || key.indexInfoId().equals(event.indexInfoId()));
+    }
+}
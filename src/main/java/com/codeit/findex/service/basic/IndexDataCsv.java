@@ -0,0 +1,44 @@
+package com.codeit.findex.service.basic;
+
+import com.codeit.findex.repository.custom.IndexDataExportReader;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 지수 데이터 CSV 형식 (일반 내보내기와 분할 내보내기에서 공통 사용)
+ */
+final class IndexDataCsv {
+
+    static final String[] HEADERS = {"baseDate", "marketPrice", "closingPrice", "highPrice", "lowPrice",
+            "versus", "fluctuationRate", "tradingQuantity", "tradingPrice", "marketTotalAmount"};
+
+    static final int FLUSH_INTERVAL = 1000; // flush 주기 (행)
+
+    private IndexDataCsv() {
+    }
+
+    static CSVPrinter printer(Writer writer) throws IOException {
+        return new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(HEADERS));
+    }
+
+    /** IndexDataExportReader 커서의 현재 행을 한 줄로 출력 */
+    static void printRow(CSVPrinter csvPrinter, ResultSet rs) throws SQLException, IOException {
+        csvPrinter.printRecord(
+                rs.getDate(IndexDataExportReader.BASE_DATE).toLocalDate(),
+                rs.getBigDecimal(IndexDataExportReader.MARKET_PRICE),
+                rs.getBigDecimal(IndexDataExportReader.CLOSING_PRICE),
+                rs.getBigDecimal(IndexDataExportReader.HIGH_PRICE),
+                rs.getBigDecimal(IndexDataExportReader.LOW_PRICE),
+                rs.getBigDecimal(IndexDataExportReader.VERSUS),
+                rs.getBigDecimal(IndexDataExportReader.FLUCTUATION_RATE),
+                rs.getObject(IndexDataExportReader.TRADING_QUANTITY, Long.class),
+                rs.getObject(IndexDataExportReader.TRADING_PRICE, Long.class),
+                rs.getObject(IndexDataExportReader.MARKET_TOTAL_AMOUNT, Long.class)
+        );
+    }
+}
@@ -0,0 +1,214 @@
+package com.codeit.findex.service.basic;
+
+import com.codeit.findex.dto.data.PartitionBy;
+import com.codeit.findex.dto.request.IndexDataSearchCondition;
+import com.codeit.findex.repository.custom.IndexDataExportReader;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 분할 CSV 내보내기
+ * - 검색 조건을 지수별(INDEX) 또는 연도별(YEAR) 파티션으로 나누고, 파티션마다 별도 커넥션/트랜잭션으로 동시에 조회
+ * - 각 파티션은 임시 파일에 CSV 로 쓰고, 완료된 순서가 아니라 파티션 순서대로 zip 항목으로 이어 붙임
+ * - 동시에 진행 중인 파티션은 parallelism * 2 개로 제한 (임시 파일이 한꺼번에 쌓이지 않도록)
+ */
+@Slf4j
+@Component
+public class IndexDataPartitionedExporter {
+
+    private final IndexDataExportReader indexDataExportReader;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService workers;
+    private final int parallelism;
+
+    public IndexDataPartitionedExporter(IndexDataExportReader indexDataExportReader,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${findex.export.parallelism:4}") int parallelism) {
+        this.indexDataExportReader = indexDataExportReader;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.parallelism = Math.max(1, parallelism);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "index-data-export-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /** 파티션 하나 (zip 항목 이름 + 조회 조건) */
+    private record Partition(String name, IndexDataSearchCondition condition) {}
+
+    public void export(OutputStream out, IndexDataSearchCondition condition, PartitionBy partitionBy) throws IOException {
+        List<Partition> partitions = partitionBy == PartitionBy.INDEX ? byIndex(condition) : byYear(condition);
+        log.debug("Partitioned export started - partitionBy: {}, partitions: {}, parallelism: {}",
+                partitionBy, partitions.size(), parallelism);
+
+        TempFiles tempFiles = new TempFiles();
+        Deque<Future<Path>> inFlight = new ArrayDeque<>();
+        int next = 0;
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < partitions.size(); i++) {
+                while (next < partitions.size() && inFlight.size() < parallelism * 2) {
+                    Partition partition = partitions.get(next++);
+                    inFlight.addLast(workers.submit(() -> writePartition(partition, tempFiles)));
+                }
+
+                Path file = await(inFlight.removeFirst());
+                try {
+                    zip.putNextEntry(new ZipEntry(partitions.get(i).name()));
+                    Files.copy(file, zip);
+                    zip.closeEntry();
+                    zip.flush();
+                } finally {
+                    tempFiles.delete(file);
+                }
+            }
+        } finally {
+            // 실패 시 남은 파티션 취소 및 임시 파일 정리 (취소돼도 끝까지 실행되는 워커의 파일은 워커가 직접 삭제)
+            tempFiles.abort();
+            inFlight.forEach(future -> future.cancel(true));
+            tempFiles.deleteAll();
+        }
+    }
+
+    private List<Partition> byIndex(IndexDataSearchCondition condition) {
+        return indexDataExportReader.findIndexInfoIds(condition).stream()
+                .map(id -> new Partition("index-data_" + id + ".csv", condition.withIndexInfoId(id)))
+                .toList();
+    }
+
+    private List<Partition> byYear(IndexDataSearchCondition condition) {
+        LocalDate[] range = indexDataExportReader.findDateRange(condition);
+        if (range == null) return List.of();
+
+        List<Partition> partitions = new ArrayList<>();
+        for (int year = range[0].getYear(); year <= range[1].getYear(); year++) {
+            LocalDate start = LocalDate.of(year, 1, 1);
+            LocalDate end = LocalDate.of(year, 12, 31);
+            if (condition.startDate() != null && condition.startDate().isAfter(start)) start = condition.startDate();
+            if (condition.endDate() != null && condition.endDate().isBefore(end)) end = condition.endDate();
+            partitions.add(new Partition("index-data_" + year + ".csv", condition.withDateRange(start, end)));
+        }
+
+        // 기준일 내림차순 정렬이면 파티션도 최신 연도부터
+        if ("baseDate".equals(condition.sortField()) && condition.isDescending()) {
+            Collections.reverse(partitions);
+        }
+        return partitions;
+    }
+
+    /**
+     * 워커 스레드: 파티션 하나를 자체 읽기 트랜잭션에서 임시 파일로 출력
+     * - 실패하거나, 쓰는 도중 내보내기가 중단됐으면 임시 파일을 지우고 예외
+     */
+    private Path writePartition(Partition partition, TempFiles tempFiles) throws IOException {
+        Path file = tempFiles.create();
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             CSVPrinter csvPrinter = IndexDataCsv.printer(writer)) {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    indexDataExportReader.forEachRow(partition.condition(), rs -> {
+                        try {
+                            IndexDataCsv.printRow(csvPrinter, rs);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+        } catch (RuntimeException | IOException e) {
+            tempFiles.delete(file);
+            throw e;
+        }
+
+        if (tempFiles.isAborted()) {
+            tempFiles.delete(file);
+            throw new InterruptedIOException("분할 내보내기가 중단되었습니다.");
+        }
+        return file;
+    }
+
+    private static Path await(Future<Path> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("분할 내보내기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 내보내기 한 건이 만든 임시 파일
+     * - abort 뒤에 deleteAll 하면 그때까지 만들어진 파일을, 그 뒤에 끝나는 워커는 isAborted 를 보고 자기 파일을 지움
+     *   → cancel(true) 를 무시하고 끝까지 실행된 워커의 파일도 남지 않음
+     */
+    private static final class TempFiles {
+
+        private final Set<Path> files = ConcurrentHashMap.newKeySet();
+        private volatile boolean aborted;
+
+        Path create() throws IOException {
+            Path file = Files.createTempFile("index-data-", ".csv");
+            files.add(file);
+            return file;
+        }
+
+        void delete(Path file) {
+            try {
+                Files.deleteIfExists(file);
+                files.remove(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete partition temp file {}", file, e);
+            }
+        }
+
+        void abort() {
+            aborted = true;
+        }
+
+        boolean isAborted() {
+            return aborted;
+        }
+
+        void deleteAll() {
+            List.copyOf(files).forEach(this::delete);
+        }
+    }
+}
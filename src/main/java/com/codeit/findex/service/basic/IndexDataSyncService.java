@@ -1,102 +1,160 @@
 package com.codeit.findex.service.basic;
 
-import com.codeit.findex.client.MarketIndexApiClient;
+import com.codeit.findex.client.MarketIndexFetchEngine;
 import com.codeit.findex.dto.request.IndexDataSyncRequest;
-import com.codeit.findex.dto.response.MarketIndexApiResponse;
 import com.codeit.findex.entity.IndexData;
 import com.codeit.findex.entity.IndexInfo;
 import com.codeit.findex.entity.SourceType;
 import com.codeit.findex.mapper.IndexDataMapper;
-import com.codeit.findex.repository.IndexDataRepository;
 import com.codeit.findex.repository.IndexInfoRepository;
+import com.codeit.findex.repository.cache.IndexDataSeriesCache;
+import com.codeit.findex.repository.custom.IndexDataBulkWriter;
+import com.codeit.findex.repository.custom.IndexDataRollupRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 public class IndexDataSyncService {
 
-    private final MarketIndexApiClient marketIndexApiClient;
+    private final MarketIndexFetchEngine marketIndexFetchEngine;
     private final IndexInfoRepository indexInfoRepository;
-    private final IndexDataRepository indexDataRepository;
+    private final IndexDataBulkWriter indexDataBulkWriter;
+    private final IndexInfoLookup indexInfoLookup;
+    private final IndexDataSeriesCache seriesCache;
+    private final IndexDataRollupRepository indexDataRollupRepository;
     private final IndexDataMapper indexDataMapper;
 
-    /** OpenApi에서 받아온 데이터를 Index_Data DB에 저장 */
-    public List<IndexData> createIndexData(IndexDataSyncRequest request) {
-        List<IndexData> newData = new ArrayList<>();
-        int pageNo = 1;
-        int pageSize = 999;
+    private final Scheduler jdbcScheduler;
 
+    @Value("${findex.sync.write-concurrency:2}")
+    private int writeConcurrency;  // 연동 요청 하나가 동시에 저장하는 페이지 수 (jdbc-concurrency 이하)
+
+    // OpenApi에서 가져온 baseDate를 LocalDate로 변환
+    private static final DateTimeFormatter BASE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /**
+     * OpenApi에서 받아온 데이터를 Index_Data DB에 저장 (논블로킹)
+     * - 조회는 WebClient 이벤트 루프에서, 매핑/저장은 jdbcScheduler 에서 실행 → 요청 스레드나 조회 스레드를 점유하지 않음
+     * - 저장 중인 chunk 가 write-concurrency 개면 다음 chunk 를 요청하지 않음 (backpressure 로 응답 파싱/수신이 대기)
+     * - 응답 페이지를 chunk-size 개씩 나눠서 매핑 → 저장(중복은 DB에서 무시)을 반복하므로
+     *   기간/지수 수/페이지 크기와 관계없이 메모리 사용량이 일정함
+     * @return 새로 저장된 지수 데이터 수
+     */
+    public Mono<Integer> syncIndexData(IndexDataSyncRequest request) {
         // 1. request에서 준 날짜 형식 변환(검색용)
         String beginDate = request.baseDateFrom().replace("-", "");
         String endDate = request.baseDateTo().replace("-", "");
+        Set<Long> requestedIds = new HashSet<>(request.indexInfoIds());
+
+        // 2. DB에서 아이디에 해당하는 지수정보 조회 후 검증
+        // 4. 연동이 끝나면(오류/취소로 끝나도 이미 저장한 페이지만큼) 바뀐 기간 집계를 한 번에 다시 계산
+        return Mono.usingWhen(Mono.fromSupplier(DirtyRanges::new),
+                dirty -> Mono.fromCallable(() -> findIndexInfos(request))
+                        .subscribeOn(jdbcScheduler)
+                        // 3. 여러 지수/페이지를 동시에 조회하고, 받아온 페이지를 JDBC 스케줄러에서 매핑/저장
+                        // (여기서는 jdbcScheduler 스레드이므로 IndexInfoLookup 적재가 필요해도 조회 스레드를 막지 않음)
+                        .flatMapMany(indexInfoList -> marketIndexFetchEngine.fetchPages(indexInfoList, beginDate, endDate, indexInfoLookup.size()))
+                        .flatMap(page -> Mono.fromCallable(() -> saveNewData(toIndexData(page, requestedIds), dirty))
+                                        .subscribeOn(jdbcScheduler),
+                                Math.max(1, writeConcurrency), 1)
+                        .reduce(0, Integer::sum)
+                        .flatMap(saved -> refreshRollups(dirty).thenReturn(saved)),
+                dirty -> Mono.empty(),
+                (dirty, error) -> refreshRollups(dirty),
+                this::refreshRollups);
+    }
 
-        // 2. DB에서 아이디에 해당하는 지수정보 조회
+    private List<IndexInfo> findIndexInfos(IndexDataSyncRequest request) {
         List<IndexInfo> indexInfoList = indexInfoRepository.findAllById(request.indexInfoIds());
 
-
-        // 3. 지수 정보가 올바르게 가져와졌는지 검증
+        // 지수 정보가 올바르게 가져와졌는지 검증
         if (indexInfoList.size() != request.indexInfoIds().size()) {
             throw new IllegalArgumentException("존재하지 않는 지수정보가 포함되어 있습니다.");
         }
+        return indexInfoList;
+    }
 
-        // 5. OpenApi에서 가져온 baseDate를 LocalDate로 변환
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-
-        List<IndexData> targetIndexData = new ArrayList<>();
-
-        for (IndexInfo indexInfo: indexInfoList) {
-
-            while (true) {
-                List<MarketIndexApiResponse.Item> fetchedIndexData = marketIndexApiClient.getFromOpenApiByBaseDate(pageNo, pageSize, indexInfo.getIndexName(), beginDate, endDate);
-
-                if(fetchedIndexData.isEmpty())  break; // 비어있으면 루프 중단
-
-                targetIndexData.addAll(fetchedIndexData.stream()
-                    .filter(item ->Objects.equals(item.getIndexClassification(), indexInfo.getIndexClassification())
-                    ).map(item -> {
-                        IndexInfo matchedInfo = indexInfoList.stream()
-                                .filter(info -> info.getIndexName().equals(item.getIndexName()))
-                                .findFirst()
-                                .orElseThrow(() -> new IllegalArgumentException("IndexInfo not found for " + item.getIndexName()));
-
-                        return IndexData.builder()
-                                .indexInfo(matchedInfo)
-                                .baseDate(LocalDate.parse(item.getBaseDate(), formatter))
-                                .sourceType(SourceType.OPEN_API)
-                                .marketPrice(item.getMarketPrice())
-                                .closingPrice(item.getClosingPrice())
-                                .highPrice(item.getHighPrice())
-                                .lowPrice(item.getLowPrice())
-                                .versus(item.getVersus())
-                                .fluctuationRate(item.getFluctuationRate())
-                                .tradingPrice(item.getTradingPrice())
-                                .tradingQuantity(item.getTradingQuantity())
-                                .marketTotalAmount(item.getMarketTotalAmount())
-                                .build();
-                    }).toList());
-
-                pageNo++;
-            }
+    /** chunk 하나를 IndexData 로 매핑 (지수 분류가 다르거나 요청하지 않은 지수의 항목은 제외) */
+    private List<IndexData> toIndexData(MarketIndexFetchEngine.IndexPage page, Set<Long> requestedIds) {
+        return page.items().stream()
+                .filter(item ->Objects.equals(item.getIndexClassification(), page.indexInfo().getIndexClassification())
+                ).map(item -> {
+                    // (분류명, 지수명) 해시 조회로 O(1) 매칭
+                    IndexInfo matchedInfo = indexInfoLookup.find(item.getIndexClassification(), item.getIndexName())
+                            .orElseThrow(() -> new IllegalArgumentException("IndexInfo not found for " + item.getIndexName()));
+
+                    return IndexData.builder()
+                            .indexInfo(matchedInfo)
+                            .baseDate(item.getBaseEpochDay() != null
+                                    ? LocalDate.ofEpochDay(item.getBaseEpochDay())
+                                    : LocalDate.parse(item.getBaseDate(), BASE_DATE_FORMATTER))
+                            .sourceType(SourceType.OPEN_API)
+                            .marketPrice(item.getMarketPrice())
+                            .closingPrice(item.getClosingPrice())
+                            .highPrice(item.getHighPrice())
+                            .lowPrice(item.getLowPrice())
+                            .versus(item.getVersus())
+                            .fluctuationRate(item.getFluctuationRate())
+                            .tradingPrice(item.getTradingPrice())
+                            .tradingQuantity(item.getTradingQuantity())
+                            .marketTotalAmount(item.getMarketTotalAmount())
+                            .build();
+                })
+                .filter(data -> requestedIds.contains(data.getIndexInfo().getId()))
+                .toList();
+    }
 
-            List<LocalDate> existingDates = indexDataRepository.findExistingDates(
-                    indexInfo.getId(),
-                    targetIndexData.stream().map(IndexData::getBaseDate).toList());
+    /**
+     * 이미 저장된 (지수, 날짜)는 건너뛰고 한 번에 저장 (중복 판단은 uq_index_data 로 DB가 처리)
+     * - 새로 저장된 행이 있으면 지수별 날짜 범위를 dirty 에 모아 둠 (기간 집계는 연동이 끝날 때 한 번만 다시 계산)
+     */
+    private int saveNewData(List<IndexData> pageData, DirtyRanges dirty) {
+        if (pageData.isEmpty()) return 0;
+        int saved = indexDataBulkWriter.upsertAll(pageData, false);
+        if (saved > 0) {
+            pageData.forEach(data -> dirty.add(data.getIndexInfo().getId(), data.getBaseDate()));
+        }
+        return saved;
+    }
+
+    /** 모아 둔 지수별 날짜 범위의 기간 집계를 한 트랜잭션에서 다시 계산하고 조회 캐시 비우기 (여러 번 불려도 한 번만 반영) */
+    private Mono<Void> refreshRollups(DirtyRanges dirty) {
+        return Mono.<Void>fromRunnable(() -> {
+            Map<Long, LocalDate[]> dateRanges = dirty.drain();
+            if (dateRanges.isEmpty()) return;
+            indexDataRollupRepository.refreshAll(dateRanges);
+            seriesCache.invalidateAll(List.copyOf(dateRanges.keySet()));
+        }).subscribeOn(jdbcScheduler);
+    }
+
+    /** 연동 한 건에서 데이터가 바뀐 지수별 [최소 날짜, 최대 날짜] (페이지를 병렬로 저장하므로 동시 갱신 가능) */
+    private static final class DirtyRanges {
 
-            Set<LocalDate> existingSet = new HashSet<>(existingDates);
+        private final Map<Long, LocalDate[]> ranges = new ConcurrentHashMap<>();
 
-            newData = targetIndexData.stream()
-                    .filter(d -> !existingSet.contains(d.getBaseDate()))
-                    .toList();
+        void add(Long indexInfoId, LocalDate baseDate) {
+            ranges.merge(indexInfoId, new LocalDate[]{baseDate, baseDate},
+                    (range, day) -> new LocalDate[]{
+                            range[0].isBefore(day[0]) ? range[0] : day[0],
+                            range[1].isAfter(day[1]) ? range[1] : day[1]});
+        }
 
-            if (!newData.isEmpty()) {
-                indexDataRepository.saveAll(newData);
+        Map<Long, LocalDate[]> drain() {
+            Map<Long, LocalDate[]> drained = new HashMap<>();
+            for (Long indexInfoId : List.copyOf(ranges.keySet())) {
+                LocalDate[] range = ranges.remove(indexInfoId);
+                if (range != null) drained.put(indexInfoId, range);
             }
+            return drained;
         }
-        return targetIndexData;
     }
 }
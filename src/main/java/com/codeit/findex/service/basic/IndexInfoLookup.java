@@ -0,0 +1,99 @@
+package com.codeit.findex.service.basic;
+
+import com.codeit.findex.dto.data.IndexInfoUnique;
+import com.codeit.findex.entity.IndexInfo;
+import com.codeit.findex.repository.IndexInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * (지수 분류명, 지수명) → IndexInfo 조회용 해시 인덱스
+ * - 연동 시 OpenApi 항목을 지수 정보에 O(1)로 매칭하기 위해 사용 (IndexDataSyncService, IndexInfoSyncService)
+ * - 요청마다 다시 만들지 않고 재사용하며, index_infos 가 바뀌면 invalidate() 로 비운 뒤 다음 조회 때 다시 적재
+ * - 비어 있을 때 동시에 들어온 요청들은 한 번만 적재 (ReentrantLock: virtual thread 에서도 carrier 를 붙잡지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexInfoLookup {
+
+    private final IndexInfoRepository indexInfoRepository;
+
+    private volatile Map<IndexInfoUnique, IndexInfo> byKey; // null 이면 다음 조회 때 적재
+    private final AtomicLong version = new AtomicLong(); // 적재 도중 invalidate 되면 적재 결과를 버리기 위한 버전
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    public Optional<IndexInfo> find(String indexClassification, String indexName) {
+        return Optional.ofNullable(snapshot().get(key(indexClassification, indexName)));
+    }
+
+    public boolean contains(String indexClassification, String indexName) {
+        return snapshot().containsKey(key(indexClassification, indexName));
+    }
+
+    /** 등록된 지수 정보 수 */
+    public int size() {
+        return snapshot().size();
+    }
+
+    /** index_infos 변경 시 호출 (트랜잭션 중이면 커밋 이후에 비움) */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+            return;
+        }
+        clear();
+    }
+
+    private void clear() {
+        version.incrementAndGet();
+        byKey = null;
+    }
+
+    private Map<IndexInfoUnique, IndexInfo> snapshot() {
+        Map<IndexInfoUnique, IndexInfo> current = byKey;
+        if (current != null) return current;
+
+        loadLock.lock();
+        try {
+            current = byKey; // 기다리는 동안 다른 요청이 적재했으면 그대로 사용
+            if (current != null) return current;
+
+            long loadVersion = version.get();
+            current = indexInfoRepository.findAll().stream()
+                    .collect(Collectors.toUnmodifiableMap(
+                            info -> key(info.getIndexClassification(), info.getIndexName()),
+                            Function.identity(),
+                            (a, b) -> a));
+            if (version.get() == loadVersion) {
+                byKey = current;
+            }
+            log.debug("[IndexInfoLookup] loaded {} index infos", current.size());
+            return current;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private static IndexInfoUnique key(String indexClassification, String indexName) {
+        return IndexInfoUnique.builder()
+                .indexClassification(indexClassification)
+                .indexName(indexName)
+                .build();
+    }
+}
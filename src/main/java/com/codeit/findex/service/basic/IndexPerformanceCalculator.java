@@ -0,0 +1,46 @@
+package com.codeit.findex.service.basic;
+
+import com.codeit.findex.dto.data.MajorIndexDto;
+import com.codeit.findex.dto.data.MajorIndexSnapshotDto;
+import com.codeit.findex.dto.response.MajorIndexDataResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 두 시점의 종가로 대비/등락률 계산 (주요 지수, 순위에서 공통 사용)
+ */
+final class IndexPerformanceCalculator {
+
+    private IndexPerformanceCalculator() {
+    }
+
+    /** 비교 대상 행이 있고 두 행 모두 종가가 있어야 계산 가능 (종가가 비어 있는 행은 건너뜀) */
+    static boolean isCalculable(MajorIndexSnapshotDto snapshot) {
+        return snapshot.before() != null
+                && snapshot.latest().closingPrice() != null
+                && snapshot.before().closingPrice() != null;
+    }
+
+    static MajorIndexDataResponse calculate(MajorIndexDto latest, MajorIndexDto before) {
+        BigDecimal currentPrice = latest.closingPrice();
+        BigDecimal beforePrice = before.closingPrice();
+
+        // 등락/등락률은 DB에서 가져온 값 대신 직접 계산
+        BigDecimal versus = currentPrice.subtract(beforePrice);
+        BigDecimal fluctuationRate = beforePrice.compareTo(BigDecimal.ZERO) == 0
+                ? BigDecimal.ZERO
+                : versus.divide(beforePrice, 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+
+        return MajorIndexDataResponse.builder()
+                .indexInfoId(latest.indexInfoId())
+                .indexClassification(latest.indexClassification())
+                .indexName(latest.indexName())
+                .versus(versus)
+                .fluctuationRate(fluctuationRate)
+                .currentPrice(currentPrice)
+                .beforePrice(beforePrice)
+                .build();
+    }
+}
@@ -0,0 +1,180 @@
+package com.codeit.findex.service.basic;
+
+import com.codeit.findex.dto.data.MajorIndexSnapshotDto;
+import com.codeit.findex.dto.response.MajorIndexDataResponse;
+import com.codeit.findex.repository.IndexDataRepository;
+import com.codeit.findex.repository.cache.IndexDataChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기간별 지수 성과 순위 (등락률 내림차순)
+ * - 기간마다 정렬된 구조(skip list)를 유지하고, 데이터가 바뀐 지수만 다시 계산해서 교체
+ * - 다시 계산은 요청 스레드가 아닌 전용 스레드에서 실행 (연동 커밋 후 이벤트를 모아서 한 번에)
+ * - 상위 K개 조회는 앞에서부터 K개만 읽으므로 전체 지수 수와 무관
+ */
+@Slf4j
+@Component
+public class IndexPerformanceRanking {
+
+    private static final Comparator<MajorIndexDataResponse> RANK_ORDER =
+            Comparator.comparing(MajorIndexDataResponse::fluctuationRate).reversed()
+                    .thenComparing(MajorIndexDataResponse::indexInfoId);
+
+    private final IndexPeriodSnapshotReader indexPeriodSnapshotReader;
+    private final IndexDataRepository indexDataRepository;
+    private final long refreshDelayMillis;
+    private final ScheduledExecutorService refreshExecutor; // 단일 스레드 → 다시 계산은 항상 하나씩
+
+    // 기간마다 미리 만들어 둠 → 데이터가 없거나 계산 가능한 지수가 없는 기간도 빈 순위로 조회됨
+    private final Map<String, PeriodRanking> rankings = IndexPeriodSnapshotReader.PERIOD_TYPES.stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), periodType -> new PeriodRanking()));
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet(); // 다시 계산해야 하는 지수
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private volatile boolean initialized;
+
+    public IndexPerformanceRanking(IndexPeriodSnapshotReader indexPeriodSnapshotReader,
+                                   IndexDataRepository indexDataRepository,
+                                   @Value("${findex.rank.refresh-delay:500ms}") Duration refreshDelay) {
+        this.indexPeriodSnapshotReader = indexPeriodSnapshotReader;
+        this.indexDataRepository = indexDataRepository;
+        this.refreshDelayMillis = Math.max(0, refreshDelay.toMillis());
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "index-performance-ranking");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /** 기간별 등락률 상위 limit 개 (현재 순위를 읽기만 함) */
+    public List<MajorIndexDataResponse> top(String periodType, int limit) {
+        if (!IndexPeriodSnapshotReader.PERIOD_TYPES.contains(periodType)) {
+            throw new IllegalArgumentException("지원하지 않는 기간입니다: " + periodType);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit 은 1 이상이어야 합니다.");
+        }
+
+        return rankings.get(periodType).top(limit);
+    }
+
+    /** 시작 시 전체 지수 순위 계산 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        scheduleRefresh();
+    }
+
+    /**
+     * 지수 데이터가 바뀌면 해당 지수만 다시 계산
+     * - 캐시 invalidate 가 커밋 이후에 발행하므로 연동이 끝난 뒤 호출됨
+     * - refresh-delay 동안 들어온 지수를 모아서 한 번에 계산
+     * - 지수 정보가 삭제됐으면 다시 계산하지 않고 모든 기간 순위에서 제거 (순위 갱신과 같은 스레드에서)
+     */
+    @EventListener
+    public void onIndexDataChanged(IndexDataChangedEvent event) {
+        if (event.indexInfoDeleted()) {
+            refreshExecutor.execute(() -> remove(event.indexInfoId()));
+            return;
+        }
+        dirtyIds.add(event.indexInfoId());
+        scheduleRefresh();
+    }
+
+    private void remove(Long indexInfoId) {
+        dirtyIds.remove(indexInfoId);
+        rankings.values().forEach(ranking -> ranking.update(indexInfoId, null));
+    }
+
+    private void scheduleRefresh() {
+        if (!refreshScheduled.compareAndSet(false, true)) return;
+        refreshExecutor.schedule(this::refresh, refreshDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh() {
+        refreshScheduled.set(false); // 계산 중에 들어온 변경은 다음 refresh 에서 처리
+
+        if (!initialized) {
+            dirtyIds.clear();
+            try {
+                recompute(indexDataRepository.findDistinctIndexInfoIds());
+                initialized = true;
+            } catch (RuntimeException e) {
+                log.error("[IndexPerformanceRanking] 전체 순위 계산 실패 (다음 변경 시 다시 시도)", e);
+            }
+            return;
+        }
+
+        List<Long> changed = new ArrayList<>(dirtyIds);
+        dirtyIds.removeAll(changed);
+        try {
+            recompute(changed);
+        } catch (RuntimeException e) {
+            dirtyIds.addAll(changed);
+            log.error("[IndexPerformanceRanking] 순위 갱신 실패 (다음 변경 시 다시 시도): {}", changed, e);
+        }
+    }
+
+    private void recompute(List<Long> indexInfoIds) {
+        if (indexInfoIds.isEmpty()) return;
+
+        for (String periodType : IndexPeriodSnapshotReader.PERIOD_TYPES) {
+            Map<Long, MajorIndexDataResponse> performances = new HashMap<>();
+            for (MajorIndexSnapshotDto snapshot : indexPeriodSnapshotReader.find(periodType, indexInfoIds)) {
+                if (!IndexPerformanceCalculator.isCalculable(snapshot)) continue; // 종가가 없는 지수는 순위에서 제외
+                performances.put(snapshot.latest().indexInfoId(),
+                        IndexPerformanceCalculator.calculate(snapshot.latest(), snapshot.before()));
+            }
+
+            PeriodRanking ranking = rankings.get(periodType);
+            for (Long indexInfoId : indexInfoIds) {
+                ranking.update(indexInfoId, performances.get(indexInfoId)); // 계산 결과가 없으면 순위에서 제외
+            }
+        }
+
+        log.debug("[IndexPerformanceRanking] recomputed {} indexes", indexInfoIds.size());
+    }
+
+    /** 기간 하나의 순위 */
+    private static final class PeriodRanking {
+
+        private final Map<Long, MajorIndexDataResponse> byId = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<MajorIndexDataResponse> sorted = new ConcurrentSkipListSet<>(RANK_ORDER);
+
+        void update(Long indexInfoId, MajorIndexDataResponse performance) {
+            MajorIndexDataResponse previous = performance == null
+                    ? byId.remove(indexInfoId)
+                    : byId.put(indexInfoId, performance);
+            if (previous != null) sorted.remove(previous);
+            if (performance != null) sorted.add(performance);
+        }
+
+        List<MajorIndexDataResponse> top(int limit) {
+            return sorted.stream().limit(limit).toList();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.codeit.findex.service.basic;
+
+import com.codeit.findex.dto.data.MajorIndexSnapshotDto;
+import com.codeit.findex.dto.data.RollupPeriod;
+import com.codeit.findex.repository.DashBoardRepository;
+import com.codeit.findex.repository.custom.IndexDataRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주요 지수/순위의 기간별 비교 대상 조회
+ * - DAILY: 최신 거래일 vs 바로 전 거래일 (시계열 캐시)
+ * - WEEKLY, MONTHLY: 최신 거래일 vs 직전 달력 주/월의 마지막 거래일 (기간 집계 테이블)
+ */
+@Component
+@RequiredArgsConstructor
+public class IndexPeriodSnapshotReader {
+
+    static final List<String> PERIOD_TYPES = List.of("DAILY", "WEEKLY", "MONTHLY");
+
+    private final DashBoardRepository dashBoardRepository;
+    private final IndexDataRollupRepository indexDataRollupRepository;
+
+    public List<MajorIndexSnapshotDto> find(String periodType, List<Long> indexInfoIds) {
+        return switch (periodType) {
+            case "DAILY" -> dashBoardRepository.getMajorIndexSnapshots(indexInfoIds, 1);
+            case "WEEKLY" -> indexDataRollupRepository.findLatestSnapshots(indexInfoIds, RollupPeriod.WEEK);
+            case "MONTHLY" -> indexDataRollupRepository.findLatestSnapshots(indexInfoIds, RollupPeriod.MONTH);
+            default -> throw new IllegalArgumentException("지원하지 않는 기간입니다: " + periodType);
+        };
+    }
+}
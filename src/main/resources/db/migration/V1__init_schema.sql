@@ -60,4 +60,4 @@ CREATE TABLE auto_sync (
 );
 
 ALTER TABLE index_data
-    ADD CONSTRAINT uq_index_data UNIQUE (index_info_id, base_date);
\ No newline at end of file
+    ADD CONSTRAINT uq_index_data UNIQUE (index_info_id, base_date);
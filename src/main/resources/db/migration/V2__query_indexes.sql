@@ -0,0 +1,67 @@
+-- 조회 패턴별 복합 인덱스
+-- keyset 페이지네이션은 항상 (정렬 컬럼, id) 같은 방향 정렬 + 행 값 비교 (col, id) > (?, ?)
+--   → (필터 컬럼..., 정렬 컬럼, id) 순서의 btree 한 개로 양방향 정렬과 커서 범위 스캔을 처리
+-- 운영 테이블 잠금을 피하기 위해 CONCURRENTLY 사용 (Flyway 가 트랜잭션 밖에서 실행)
+-- 주의: CONCURRENTLY 는 열려 있는 모든 트랜잭션이 끝나길 기다리므로, Flyway 의 PostgreSQL 트랜잭션 advisory lock
+--       (기본값) 을 쓰면 그 락 트랜잭션을 기다리며 멈춤 → spring.flyway.postgresql.transactional-lock: false 필요
+
+-- 지수 데이터 (Index_Data)
+-- uq_index_data (index_info_id, base_date) : 지수별 기준일 정렬/기간 조회, 최신 데이터, 중복 확인
+-- 지수 미지정 목록/내보내기 (기준일 정렬, 기간 필터)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_index_data_base_date_id
+    ON index_data (base_date, id);
+
+-- 지수별 종가/등락률 정렬 목록
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_index_data_info_closing_price_id
+    ON index_data (index_info_id, closing_price, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_index_data_info_fluctuation_rate_id
+    ON index_data (index_info_id, fluctuation_rate, id);
+
+-- 대시보드 주요 지수 최신/전일 스냅샷 (DashBoardRepositoryImpl.MAJOR_INDEX_SNAPSHOT_SQL):
+--   index_info_id IN (...) AND base_date >= :since 를 (index_info_id, base_date) 순서로 읽고 대비, 등락률, 종가만 사용
+--   → 테이블을 읽지 않도록 covering 인덱스 (index-only scan)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_index_data_info_date_quote
+    ON index_data (index_info_id, base_date) INCLUDE (versus, fluctuation_rate, closing_price);
+
+-- 지수 연동 (Sync_Jobs)
+-- 자동 연동 기준점 (AnchorSyncJobRepository): 지수 + 유형 + 작업자 + 결과 일치, 대상일 최신 1건
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sync_jobs_anchor
+    ON sync_jobs (index_info_id, job_type, worker, result, target_date);
+
+-- 지수 + 대상일 단건 조회/존재 확인 (FK 조인과 ON DELETE CASCADE 도 이 인덱스 사용)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sync_jobs_info_target_date
+    ON sync_jobs (index_info_id, target_date, job_type);
+
+-- 목록 정렬 (작업 시간 / 대상일)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sync_jobs_job_time_id
+    ON sync_jobs (job_time, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sync_jobs_target_date_id
+    ON sync_jobs (target_date, id);
+
+-- 유형별 최근 작업 (findTopByJobTypeOrderByJobTimeDesc, 유형 필터 목록)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sync_jobs_type_job_time
+    ON sync_jobs (job_type, job_time);
+
+-- 지수 정보 (Index_Infos)
+-- uq_index_infos (index_classification, index_name) : 분류 필터, 분류 + 이름 단건 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_index_infos_classification_id
+    ON index_infos (index_classification, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_index_infos_name_id
+    ON index_infos (index_name, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_index_infos_employed_items_count_id
+    ON index_infos (employed_items_count, id);
+
+-- 즐겨찾기 지수 (대시보드 주요 지수) - 소수이므로 부분 인덱스
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_index_infos_favorite
+    ON index_infos (id) WHERE favorite;
+
+-- 자동 연동 (Auto_Sync)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_auto_sync_index_info_id
+    ON auto_sync (index_info_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_auto_sync_enabled_id
+    ON auto_sync (enabled, id);
@@ -0,0 +1,109 @@
+-- 지수 데이터 (Index_Data) 기준일 연도별 범위 파티셔닝
+-- - 기준일 조건이 있는 조회(차트, 순위, 내보내기, 연동)는 해당 연도 파티션만 읽음 (partition pruning)
+-- - 지난 연도는 파티션 단위로 VACUUM / DETACH / 보관 가능
+-- - 파티션 키가 PK/UNIQUE 에 포함돼야 하므로 PK 는 (id, base_date), id 는 기존처럼 identity 로 발급
+-- - 기존 행을 새 테이블로 복사하므로 데이터가 많으면 점검 시간에 실행 (트랜잭션 안에서 index_data 잠금)
+
+-- 1. 기존 테이블은 이름을 바꿔 두고 (제약/시퀀스 이름도 새 테이블과 겹치지 않게) 복사 후 삭제
+ALTER TABLE index_data RENAME TO index_data_heap;
+ALTER TABLE index_data_heap RENAME CONSTRAINT index_data_pkey TO index_data_heap_pkey;
+ALTER TABLE index_data_heap RENAME CONSTRAINT uq_index_data TO uq_index_data_heap;
+ALTER TABLE index_data_heap RENAME CONSTRAINT fk_index_data_index TO fk_index_data_heap_index;
+ALTER SEQUENCE index_data_id_seq RENAME TO index_data_heap_id_seq;
+
+CREATE TABLE index_data (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    index_info_id           BIGINT NOT NULL,
+    base_date               DATE NOT NULL,
+    source_type             VARCHAR(100),
+    market_price            NUMERIC(20, 4),
+    closing_price           NUMERIC(20, 4),
+    high_price              NUMERIC(20, 4),
+    low_price               NUMERIC(20, 4),
+    versus                  NUMERIC(20, 4),
+    fluctuation_rate        NUMERIC(10, 4),
+    trading_quantity        BIGINT,
+    trading_price           BIGINT,
+    market_total_amount     BIGINT,
+    CONSTRAINT index_data_pkey PRIMARY KEY (id, base_date),
+    CONSTRAINT uq_index_data UNIQUE (index_info_id, base_date),
+    CONSTRAINT fk_index_data_index
+        FOREIGN KEY (index_info_id)
+            REFERENCES index_infos (id)
+            ON DELETE CASCADE
+) PARTITION BY RANGE (base_date);
+
+-- 연도 파티션이 없는 기준일(아주 과거/미래)을 받는 기본 파티션
+CREATE TABLE index_data_default PARTITION OF index_data DEFAULT;
+
+-- 2. 연도 파티션 생성 함수 (스케줄러가 다음 연도 파티션을 미리 만들 때도 사용)
+-- - 이미 있으면 false
+-- - 기본 파티션에 들어가 있던 해당 연도 행은 새 파티션으로 옮긴 뒤 연결 (그대로 두면 ATTACH 실패)
+CREATE OR REPLACE FUNCTION ensure_index_data_partition(p_year INT) RETURNS BOOLEAN
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition_name TEXT := format('index_data_y%s', p_year);
+    range_from     DATE := make_date(p_year, 1, 1);
+    range_to       DATE := make_date(p_year + 1, 1, 1);
+BEGIN
+    -- 여러 인스턴스가 동시에 호출해도 한 번만 생성
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_index_data_partition'));
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE index_data INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM index_data_default WHERE base_date >= %L AND base_date < %L RETURNING *) '
+                       || 'INSERT INTO %I SELECT * FROM moved', range_from, range_to, partition_name);
+    EXECUTE format('ALTER TABLE index_data ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_from, range_to);
+    RETURN TRUE;
+END
+$$;
+
+-- 3. 기존 데이터의 첫 연도 ~ 내년까지 파티션 생성
+DO
+$$
+DECLARE
+    current_year INT := EXTRACT(YEAR FROM CURRENT_DATE)::INT;
+    first_year   INT;
+    last_year    INT;
+BEGIN
+    SELECT COALESCE(EXTRACT(YEAR FROM MIN(base_date))::INT, current_year),
+           GREATEST(COALESCE(EXTRACT(YEAR FROM MAX(base_date))::INT, current_year), current_year + 1)
+    INTO first_year, last_year
+    FROM index_data_heap;
+
+    FOR y IN first_year..last_year LOOP
+        PERFORM ensure_index_data_partition(y);
+    END LOOP;
+END
+$$;
+
+-- 4. 데이터 복사 (id 유지) 후 identity 시퀀스를 이어서 발급하도록 맞춤
+INSERT INTO index_data (id, index_info_id, base_date, source_type, market_price, closing_price, high_price,
+                        low_price, versus, fluctuation_rate, trading_quantity, trading_price, market_total_amount)
+SELECT id, index_info_id, base_date, source_type, market_price, closing_price, high_price,
+       low_price, versus, fluctuation_rate, trading_quantity, trading_price, market_total_amount
+FROM index_data_heap;
+
+SELECT setval(pg_get_serial_sequence('index_data', 'id'), COALESCE((SELECT MAX(id) FROM index_data), 0) + 1, false);
+
+DROP TABLE index_data_heap;
+
+-- 5. V2 조회 인덱스를 파티션 테이블에 다시 생성 (부모에 만들면 모든 파티션에 생성되고, 이후 생성되는 파티션에도 자동 적용)
+CREATE INDEX idx_index_data_base_date_id
+    ON index_data (base_date, id);
+
+CREATE INDEX idx_index_data_info_closing_price_id
+    ON index_data (index_info_id, closing_price, id);
+
+CREATE INDEX idx_index_data_info_fluctuation_rate_id
+    ON index_data (index_info_id, fluctuation_rate, id);
+
+CREATE INDEX idx_index_data_info_date_quote
+    ON index_data (index_info_id, base_date) INCLUDE (versus, fluctuation_rate, closing_price);
+
+ANALYZE index_data;
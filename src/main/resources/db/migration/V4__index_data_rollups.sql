@@ -0,0 +1,59 @@
+-- 지수 데이터 기간 집계 (Index_Data_Rollups)
+-- - 지수별 달력 주(월요일 시작)/월/연 단위 OHLC, 거래량/거래대금 합계, 직전 기간 종가 대비 등락
+-- - 일별 데이터를 저장할 때 해당 기간만 다시 계산 (IndexDataRollupRepository.refresh)
+-- - 주/월 단위 조회(주요 지수, 순위, 기간 집계 API)는 일별 행 대신 이 테이블을 읽음
+CREATE TABLE index_data_rollups (
+    index_info_id           BIGINT NOT NULL,
+    period_type             VARCHAR(10) NOT NULL,       -- WEEK, MONTH, YEAR
+    period_start            DATE NOT NULL,              -- 기간 첫날 (달력 기준)
+    period_end              DATE NOT NULL,              -- 기간 안 마지막 거래일
+    trading_days            INTEGER NOT NULL,
+    open_price              NUMERIC(20, 4),             -- 첫 거래일 시가 (없으면 종가)
+    high_price              NUMERIC(20, 4),
+    low_price               NUMERIC(20, 4),
+    close_price             NUMERIC(20, 4),             -- 마지막 거래일 종가
+    trading_quantity        BIGINT,
+    trading_price           BIGINT,
+    previous_period_end     DATE,                       -- 직전 기간 마지막 거래일
+    previous_close_price    NUMERIC(20, 4),             -- 직전 기간 종가
+    versus                  NUMERIC(20, 4),
+    fluctuation_rate        NUMERIC(10, 4),
+    CONSTRAINT pk_index_data_rollups PRIMARY KEY (index_info_id, period_type, period_start),
+    CONSTRAINT fk_index_data_rollups_index
+        FOREIGN KEY (index_info_id)
+            REFERENCES index_infos (id)
+            ON DELETE CASCADE
+);
+
+-- 기존 일별 데이터로 전체 집계
+INSERT INTO index_data_rollups (index_info_id, period_type, period_start, period_end, trading_days,
+                                open_price, high_price, low_price, close_price, trading_quantity, trading_price)
+SELECT d.index_info_id, p.period_type, date_trunc(p.unit, d.base_date)::date, MAX(d.base_date), COUNT(*),
+       (array_agg(COALESCE(d.market_price, d.closing_price) ORDER BY d.base_date))[1],
+       MAX(COALESCE(d.high_price, d.closing_price)),
+       MIN(COALESCE(d.low_price, d.closing_price)),
+       (array_agg(d.closing_price ORDER BY d.base_date DESC) FILTER (WHERE d.closing_price IS NOT NULL))[1],
+       SUM(d.trading_quantity),
+       SUM(d.trading_price)
+FROM index_data d
+         CROSS JOIN (VALUES ('WEEK', 'week'), ('MONTH', 'month'), ('YEAR', 'year')) AS p (period_type, unit)
+GROUP BY d.index_info_id, p.period_type, date_trunc(p.unit, d.base_date);
+
+UPDATE index_data_rollups r
+SET previous_period_end  = x.previous_period_end,
+    previous_close_price = x.previous_close_price,
+    versus               = r.close_price - x.previous_close_price,
+    fluctuation_rate     = CASE
+                               WHEN x.previous_close_price IS NULL OR x.previous_close_price = 0 THEN NULL
+                               ELSE round((r.close_price - x.previous_close_price) / x.previous_close_price * 100, 4)
+                           END
+FROM (SELECT index_info_id, period_type, period_start,
+             LAG(period_end) OVER w  AS previous_period_end,
+             LAG(close_price) OVER w AS previous_close_price
+      FROM index_data_rollups
+      WINDOW w AS (PARTITION BY index_info_id, period_type ORDER BY period_start)) x
+WHERE r.index_info_id = x.index_info_id
+  AND r.period_type = x.period_type
+  AND r.period_start = x.period_start;
+
+ANALYZE index_data_rollups;
@@ -0,0 +1,141 @@
+package com.codeit.findex.client;
+
+import com.codeit.findex.dto.response.MarketIndexApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * MarketIndexItemStreamDecoder 의 필드 매핑과 chunk 분할 확인
+ * - 서비스가 읽는 필드(baseEpochDay, basePointInTimeEpochDay, 가격/거래량)가 채워지는지
+ * - 응답이 토큰 중간에서 잘린 DataBuffer 로 와도 같은 결과가 나오는지
+ */
+class MarketIndexItemStreamDecoderTest {
+
+    private static final String PAGE = """
+            {"response": {
+              "header": {"resultCode": "00", "resultMsg": "NORMAL SERVICE."},
+              "body": {"numOfRows": 10, "pageNo": 1, "totalCount": 3, "items": {"item": [
+                {"basDt": "20240102", "idxNm": "코스피", "idxCsf": "KOSPI시리즈", "epyItmsCnt": "935",
+                 "clpr": "2669.81", "vs": "14.53", "fltRt": "0.55", "mkp": "2650.47", "hipr": "2675.80", "lopr": "2641.45",
+                 "trqu": "486927127", "trPrc": "10133145547048", "lstgMrktTotAmt": "2149345486722070",
+                 "basPntm": "19800104", "basIdx": "100", "extra": {"ignored": [1, 2]}},
+                {"basDt": "20240102", "idxNm": "코스피 200", "idxCsf": "KOSPI시리즈", "epyItmsCnt": "200",
+                 "clpr": "360.88", "vs": "-1.15", "fltRt": "-0.32", "basPntm": "19900103", "basIdx": "100"},
+                {"basDt": "20231229", "idxNm": "코스닥", "idxCsf": "KOSDAQ시리즈", "epyItmsCnt": "1702",
+                 "clpr": "866.57", "vs": null, "basPntm": "19960701", "basIdx": "1000"}
+              ]}}
+            }}
+            """;
+
+    @Test
+    void mapsDateAndNumericFieldsReadBySyncServices() {
+        List<MarketIndexApiClient.ItemChunk> chunks = decode(new MarketIndexItemStreamDecoder(500), PAGE, 1 << 20);
+        List<MarketIndexApiResponse.Item> items = items(chunks);
+
+        assertThat(items).hasSize(3);
+        MarketIndexApiResponse.Item kospi = items.get(0);
+        assertThat(kospi.getIndexName()).isEqualTo("코스피");
+        assertThat(kospi.getIndexClassification()).isEqualTo("KOSPI시리즈");
+        assertThat(kospi.getEmployedItemsCount()).isEqualTo("935");
+        assertThat(kospi.getBaseIndex()).isEqualTo("100");
+        assertThat(LocalDate.ofEpochDay(kospi.getBaseEpochDay())).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(LocalDate.ofEpochDay(kospi.getBasePointInTimeEpochDay())).isEqualTo(LocalDate.of(1980, 1, 4));
+        assertThat(kospi.getClosingPrice()).isEqualByComparingTo(new BigDecimal("2669.81"));
+        assertThat(kospi.getMarketPrice()).isEqualByComparingTo(new BigDecimal("2650.47"));
+        assertThat(kospi.getHighPrice()).isEqualByComparingTo(new BigDecimal("2675.80"));
+        assertThat(kospi.getLowPrice()).isEqualByComparingTo(new BigDecimal("2641.45"));
+        assertThat(kospi.getVersus()).isEqualByComparingTo(new BigDecimal("14.53"));
+        assertThat(kospi.getFluctuationRate()).isEqualByComparingTo(new BigDecimal("0.55"));
+        assertThat(kospi.getTradingQuantity()).isEqualTo(486927127L);
+        assertThat(kospi.getTradingPrice()).isEqualTo(10133145547048L);
+        assertThat(kospi.getMarketTotalAmount()).isEqualTo(2149345486722070L);
+
+        assertThat(items.get(1).getFluctuationRate()).isEqualByComparingTo(new BigDecimal("-0.32"));
+        assertThat(LocalDate.ofEpochDay(items.get(2).getBasePointInTimeEpochDay())).isEqualTo(LocalDate.of(1996, 7, 1));
+        assertThat(items.get(2).getVersus()).isNull();
+
+        MarketIndexApiClient.ItemChunk last = chunks.get(chunks.size() - 1);
+        assertThat(last.pageItemCount()).isEqualTo(3);
+        assertThat(last.totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    void splitsItemsIntoChunksRegardlessOfBufferBoundaries() {
+        MarketIndexItemStreamDecoder decoder = new MarketIndexItemStreamDecoder(2);
+        List<MarketIndexApiResponse.Item> whole = items(decode(decoder, PAGE, 1 << 20));
+
+        // 7바이트씩 잘라서 보내면 토큰/멀티바이트 문자 중간에서 잘림
+        List<MarketIndexApiClient.ItemChunk> chunks = decode(decoder, PAGE, 7);
+
+        assertThat(chunks).extracting(chunk -> chunk.items().size()).containsExactly(2, 1);
+        assertThat(chunks).extracting(MarketIndexApiClient.ItemChunk::pageItemCount).containsExactly(2, 3);
+        assertThat(items(chunks))
+                .extracting(MarketIndexApiResponse.Item::getIndexName, MarketIndexApiResponse.Item::getBaseEpochDay)
+                .containsExactlyElementsOf(whole.stream()
+                        .map(item -> tuple(item.getIndexName(), item.getBaseEpochDay()))
+                        .toList());
+    }
+
+    @Test
+    void singleItemObjectAndEmptyPageAreDecoded() {
+        MarketIndexItemStreamDecoder decoder = new MarketIndexItemStreamDecoder(500);
+
+        // 결과가 1건이면 item 이 배열이 아닌 객체
+        List<MarketIndexApiClient.ItemChunk> single = decode(decoder, """
+                {"response": {"body": {"totalCount": "1", "items": {"item":
+                  {"basDt": "20240102", "idxNm": "코스피", "basPntm": "19800104"}}}}}
+                """, 1 << 20);
+        assertThat(items(single)).singleElement()
+                .extracting(MarketIndexApiResponse.Item::getBasePointInTimeEpochDay)
+                .isEqualTo((int) LocalDate.of(1980, 1, 4).toEpochDay());
+        assertThat(single.get(single.size() - 1).totalCount()).isEqualTo(1);
+
+        // 결과가 없어도 마지막 chunk 는 방출
+        List<MarketIndexApiClient.ItemChunk> empty = decode(decoder, """
+                {"response": {"body": {"totalCount": 0, "items": ""}}}
+                """, 1 << 20);
+        assertThat(empty).singleElement().satisfies(chunk -> {
+            assertThat(chunk.items()).isEmpty();
+            assertThat(chunk.pageItemCount()).isZero();
+            assertThat(chunk.totalCount()).isZero();
+        });
+    }
+
+    @Test
+    void epochDayMatchesLocalDate() {
+        for (LocalDate date = LocalDate.of(1899, 12, 25); date.isBefore(LocalDate.of(2101, 1, 5)); date = date.plusDays(13)) {
+            char[] chars = String.format("%04d%02d%02d", date.getYear(), date.getMonthValue(), date.getDayOfMonth()).toCharArray();
+            assertThat(MarketIndexItemStreamDecoder.parseEpochDay(chars, 0, chars.length)).isEqualTo((int) date.toEpochDay());
+        }
+    }
+
+    private static List<MarketIndexApiClient.ItemChunk> decode(MarketIndexItemStreamDecoder decoder, String json, int bufferSize) {
+        return decoder.decode(buffers(json, bufferSize)).collectList().block();
+    }
+
+    private static Flux<DataBuffer> buffers(String json, int bufferSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += bufferSize) {
+            int length = Math.min(bufferSize, bytes.length - offset);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, offset, offset + length)));
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private static List<MarketIndexApiResponse.Item> items(List<MarketIndexApiClient.ItemChunk> chunks) {
+        return chunks.stream().flatMap(chunk -> chunk.items().stream()).toList();
+    }
+}
@@ -0,0 +1,170 @@
+package com.codeit.findex.client;
+
+import com.codeit.findex.exception.OpenApiUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OpenApiCallPolicy 의 재시도 / 제한 시간 / hedge / circuit breaker 동작과 통계를 로컬 HTTP 서버로 확인
+ * - 서버는 미리 넣어둔 응답을 요청 순서대로 돌려주고, 남은 응답이 없으면 200 "ok"
+ */
+class OpenApiCallPolicyTest {
+
+    private record MockResponse(int status, long delayMillis) {}
+
+    private final Queue<MockResponse> responses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger hits = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private WebClient webClient;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/page", this::handle);
+        serverExecutor = Executors.newCachedThreadPool(); // 느린 응답이 다른 요청(hedge)을 막지 않도록
+        server.setExecutor(serverExecutor);
+        server.start();
+        webClient = WebClient.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void retriesServerErrorsWithBackoff() {
+        OpenApiCallPolicy policy = policy(Duration.ofSeconds(2), 3, Duration.ZERO, 5);
+        responses.add(new MockResponse(503, 0));
+        responses.add(new MockResponse(500, 0));
+
+        assertThat(policy.execute(page()).block()).isEqualTo("ok");
+
+        assertThat(hits.get()).isEqualTo(3);
+        OpenApiCallPolicy.Stats stats = policy.stats();
+        assertThat(stats.calls()).isEqualTo(1);
+        assertThat(stats.retries()).isEqualTo(2);
+        assertThat(stats.successes()).isEqualTo(1);
+        assertThat(stats.failures()).isZero();
+    }
+
+    @Test
+    void retriesCallThatExceedsDeadline() {
+        OpenApiCallPolicy policy = policy(Duration.ofMillis(300), 2, Duration.ZERO, 5);
+        responses.add(new MockResponse(200, 2_000));
+
+        assertThat(policy.execute(page()).block()).isEqualTo("ok");
+
+        OpenApiCallPolicy.Stats stats = policy.stats();
+        assertThat(stats.timeouts()).isEqualTo(1);
+        assertThat(stats.retries()).isEqualTo(1);
+        assertThat(stats.successes()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        OpenApiCallPolicy policy = policy(Duration.ofSeconds(2), 3, Duration.ZERO, 1);
+        responses.add(new MockResponse(400, 0));
+
+        assertThatThrownBy(() -> policy.execute(page()).block())
+                .isInstanceOf(WebClientResponseException.BadRequest.class);
+
+        assertThat(hits.get()).isEqualTo(1);
+        OpenApiCallPolicy.Stats stats = policy.stats();
+        assertThat(stats.retries()).isZero();
+        assertThat(stats.failures()).isEqualTo(1);
+        assertThat(stats.circuitState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void opensCircuitAfterConsecutiveFailuresAndRecovers() throws InterruptedException {
+        OpenApiCallPolicy policy = policy(Duration.ofSeconds(2), 0, Duration.ZERO, 3);
+        for (int i = 0; i < 3; i++) responses.add(new MockResponse(502, 0));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> policy.execute(page()).block()).isInstanceOf(WebClientResponseException.class);
+        }
+        assertThat(policy.stats().circuitState()).isEqualTo("OPEN");
+
+        // 열려 있는 동안은 서버에 요청하지 않고 바로 실패
+        assertThatThrownBy(() -> policy.execute(page()).block()).isInstanceOf(OpenApiUnavailableException.class);
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(policy.stats().rejected()).isEqualTo(1);
+
+        // open-duration 이 지나면 시험 호출 한 건이 성공하면서 닫힘
+        Thread.sleep(600);
+        assertThat(policy.execute(page()).block()).isEqualTo("ok");
+        assertThat(policy.stats().circuitState()).isEqualTo("CLOSED");
+        assertThat(hits.get()).isEqualTo(4);
+    }
+
+    @Test
+    void hedgesSlowCall() {
+        OpenApiCallPolicy policy = policy(Duration.ofSeconds(5), 0, Duration.ofMillis(100), 5);
+        responses.add(new MockResponse(200, 2_000));
+
+        long started = System.nanoTime();
+        assertThat(policy.execute(page()).block()).isEqualTo("ok");
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        assertThat(elapsedMillis).isLessThan(1_500);
+        assertThat(hits.get()).isEqualTo(2);
+        OpenApiCallPolicy.Stats stats = policy.stats();
+        assertThat(stats.hedges()).isEqualTo(1);
+        assertThat(stats.successes()).isEqualTo(1);
+    }
+
+    private OpenApiCallPolicy policy(Duration callTimeout, int maxRetries, Duration hedgeDelay, int failureThreshold) {
+        return new OpenApiCallPolicy(new OpenApiRateLimiter(1000), callTimeout, maxRetries,
+                Duration.ofMillis(10), Duration.ofMillis(50), hedgeDelay, failureThreshold, Duration.ofMillis(500));
+    }
+
+    private Mono<String> page() {
+        return webClient.get().uri("/page").retrieve().bodyToMono(String.class);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        MockResponse response = responses.poll();
+        if (response == null) response = new MockResponse(200, 0);
+
+        try {
+            if (response.delayMillis() > 0) Thread.sleep(response.delayMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = (response.status() == 200 ? "ok" : "error").getBytes(StandardCharsets.UTF_8);
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(response.status(), body.length);
+            out.write(body);
+        } catch (IOException ignored) {
+            // 클라이언트가 먼저 끊은 요청 (제한 시간 초과, hedge 로 취소)
+        } finally {
+            exchange.close();
+        }
+    }
+}
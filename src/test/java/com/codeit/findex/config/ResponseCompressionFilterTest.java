@@ -0,0 +1,144 @@
+package com.codeit.findex.config;
+
+import com.codeit.findex.controller.SyncJobController;
+import com.codeit.findex.dto.data.SyncJobDto;
+import com.codeit.findex.entity.JobType;
+import com.codeit.findex.service.SyncJobService;
+import com.codeit.findex.service.basic.IndexDataSyncService;
+import com.codeit.findex.service.basic.IndexInfoSyncService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비동기(Mono 반환) 엔드포인트에 압축 필터가 적용될 때 본문이 async 디스패치 뒤에 마무리되는지 확인
+ * - POST /api/sync-jobs/index-data 를 Accept-Encoding: gzip 으로 호출
+ * - 압축 응답 도중 실패하면 이미 보낸 본문 뒤로 아무것도 쓰지 않는지 확인
+ */
+class ResponseCompressionFilterTest {
+
+    private static final String SYNC_REQUEST = """
+            {"indexInfoIds": [1, 2, 3], "baseDateFrom": "2024-01-01", "baseDateTo": "2024-01-31"}
+            """;
+
+    @Test
+    void asyncSyncResponseIsCompressedAfterAsyncDispatch() throws Exception {
+        MockMvc mockMvc = mockMvc(0, 60);
+
+        MvcResult started = mockMvc.perform(post("/api/sync-jobs/index-data")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .content(SYNC_REQUEST))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 첫 디스패치가 끝난 시점에는 아직 아무것도 쓰지 않아야 함
+        assertThat(started.getResponse().getContentAsByteArray()).isEmpty();
+
+        MvcResult completed = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(completed.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        String body = gunzip(completed.getResponse().getContentAsByteArray());
+        assertThat(body).startsWith("[").endsWith("]").contains("\"worker\":\"127.0.0.1\"", "\"indexInfoId\":60");
+    }
+
+    @Test
+    void smallAsyncSyncResponseIsSentUncompressed() throws Exception {
+        MockMvc mockMvc = mockMvc(1 << 20, 1);
+
+        MvcResult started = mockMvc.perform(post("/api/sync-jobs/index-data")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .content(SYNC_REQUEST))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult completed = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(completed.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(completed.getResponse().getContentAsString()).contains("\"worker\":\"127.0.0.1\"");
+    }
+
+    @Test
+    void abortedCompressedResponseWritesNothingAfterFailure() {
+        ResponseCompressionFilter filter = new ResponseCompressionFilter(100, 6, 3, false, List.of("application/json"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/index-data/export");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[][] sentBeforeFailure = new byte[1][];
+
+        // 압축 본문 일부를 보낸 뒤 클라이언트 연결이 끊긴 상황
+        assertThatThrownBy(() -> filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream().write("[1,2,3]".repeat(100).getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            sentBeforeFailure[0] = response.getContentAsByteArray();
+            throw new IOException("Broken pipe");
+        })).isInstanceOf(IOException.class);
+
+        // 압축기는 해제되고, gzip trailer 등 남은 압축 데이터는 클라이언트로 가지 않음
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(sentBeforeFailure[0]).isNotEmpty();
+        assertThat(response.getContentAsByteArray()).isEqualTo(sentBeforeFailure[0]);
+    }
+
+    private MockMvc mockMvc(int minSize, int jobCount) {
+        IndexDataSyncService indexDataSyncService = mock(IndexDataSyncService.class);
+        SyncJobService syncJobService = mock(SyncJobService.class);
+        when(indexDataSyncService.syncIndexData(any())).thenReturn(Mono.just(jobCount));
+        when(syncJobService.createSyncJobsOfIndexData(anyString(), any())).thenReturn(syncJobs(jobCount));
+
+        SyncJobController controller = new SyncJobController(
+                mock(IndexInfoSyncService.class), indexDataSyncService, syncJobService, Schedulers.immediate());
+
+        return MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new ResponseCompressionFilter(minSize, 6, 3, false, List.of("application/json")))
+                .build();
+    }
+
+    private static List<SyncJobDto> syncJobs(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> SyncJobDto.builder()
+                        .id(id)
+                        .jobType(JobType.INDEX_DATA)
+                        .indexInfoId(id)
+                        .worker("127.0.0.1")
+                        .build())
+                .toList();
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
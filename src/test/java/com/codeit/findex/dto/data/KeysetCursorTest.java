@@ -0,0 +1,115 @@
+package com.codeit.findex.dto.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KeysetCursor 인코딩/디코딩 왕복과 버전/정렬 조건/타입 검증 확인
+ */
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsEverySortValueType() {
+        Object[] values = {
+                LocalDate.of(2024, 1, 2),
+                LocalDateTime.of(2024, 1, 2, 15, 30, 0, 123_000_000),
+                new BigDecimal("2669.8100"),
+                10133145547048L,
+                935,
+                true,
+                "코스피|200", // 구분자가 들어간 문자열도 그대로 복원
+                null
+        };
+
+        for (Object value : values) {
+            KeysetCursor cursor = new KeysetCursor("sortField", true, value, 42L);
+
+            KeysetCursor decoded = KeysetCursor.decode(cursor.encode(), "sortField", true);
+
+            assertThat(decoded).isEqualTo(cursor);
+        }
+    }
+
+    @Test
+    void keepsBigDecimalScaleAndPlainNotation() {
+        KeysetCursor cursor = new KeysetCursor("closingPrice", false, new BigDecimal("1E+3"), 1L);
+
+        BigDecimal decoded = KeysetCursor.decode(cursor.encode(), "closingPrice", false).lastValueAs(BigDecimal.class);
+
+        assertThat(decoded).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    void encodesAsUrlSafeTokenWithoutPadding() {
+        String token = new KeysetCursor("indexName", false, "??>>~~", 7L).encode();
+
+        assertThat(token).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null, "baseDate", true)).isNull();
+        assertThat(KeysetCursor.decode("  ", "baseDate", true)).isNull();
+    }
+
+    @Test
+    void rejectsCursorForDifferentSortFieldOrDirection() {
+        String token = new KeysetCursor("baseDate", true, LocalDate.of(2024, 1, 2), 1L).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token, "closingPrice", true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("커서의 정렬 조건이 요청과 다릅니다.");
+        assertThatThrownBy(() -> KeysetCursor.decode(token, "baseDate", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("커서의 정렬 조건이 요청과 다릅니다.");
+    }
+
+    @Test
+    void rejectsUnknownVersionAndMalformedTokens() {
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("2|baseDate|d|1|D2024-01-02"), "baseDate", true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("1|baseDate|d|1"), "baseDate", true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("1|baseDate|d|x|D2024-01-02"), "baseDate", true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("1|baseDate|d|1|Q2024-01-02"), "baseDate", true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!", "baseDate", true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void lastValueAsChecksTheSortColumnType() {
+        KeysetCursor cursor = KeysetCursor.decode(
+                new KeysetCursor("baseDate", true, LocalDate.of(2024, 1, 2), 1L).encode(), "baseDate", true);
+
+        assertThat(cursor.lastValueAs(LocalDate.class)).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThatThrownBy(() -> cursor.lastValueAs(BigDecimal.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new KeysetCursor("closingPrice", true, null, 1L).lastValueAs(BigDecimal.class)).isNull();
+    }
+
+    @Test
+    void rejectsSortValueTypesItCannotEncode() {
+        KeysetCursor cursor = new KeysetCursor("jobTime", true, new Object(), 1L);
+
+        assertThatThrownBy(cursor::encode).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
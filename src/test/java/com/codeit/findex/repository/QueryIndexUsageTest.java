@@ -0,0 +1,352 @@
+package com.codeit.findex.repository;
+
+import com.codeit.findex.dto.data.KeysetCursor;
+import com.codeit.findex.dto.request.IndexDataSearchCondition;
+import com.codeit.findex.dto.request.SyncJobSearchRequest;
+import com.codeit.findex.entity.JobType;
+import com.codeit.findex.repository.custom.DashBoardRepositoryImpl;
+import com.codeit.findex.repository.custom.IndexDataRepositoryImpl;
+import com.codeit.findex.repository.custom.IndexDataRollupRepository;
+import com.codeit.findex.repository.custom.SyncJobRepositoryImpl;
+import com.codeit.findex.repository.schedular.AnchorSyncJobRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션 인덱스가 주요 조회 쿼리에 실제로 쓰이는지 EXPLAIN 으로 확인
+ * - PostgreSQL 이 필요하므로 FINDEX_EXPLAIN_DB_URL 이 있을 때만 실행
+ *   (예: jdbc:postgresql://localhost:5432/findex, 계정은 FINDEX_EXPLAIN_DB_USER / FINDEX_EXPLAIN_DB_PASSWORD)
+ * - 임시 스키마에 Flyway 마이그레이션 적용 → 데이터 적재 → VACUUM ANALYZE → 쿼리별 실행 계획 검사 → 스키마 삭제
+ * - 검사하는 쿼리는 애플리케이션 코드가 만든 것: QueryDSL/JPA 저장소는 실제로 호출해서 Hibernate 가 보낸 SQL 과
+ *   바인드 값을 그대로 EXPLAIN 하고, JDBC 저장소는 SQL 상수에 값을 채워서 EXPLAIN
+ * - index_data 는 연도 파티션이므로 실행 계획의 파티션 인덱스 이름을 부모 인덱스 이름으로 바꿔서 비교
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "FINDEX_EXPLAIN_DB_URL", matches = ".+")
+class QueryIndexUsageTest {
+
+    private static final Pattern USING_INDEX = Pattern.compile(" using (\\S+)");
+
+    private static final String PARENT_INDEX_SQL = """
+            SELECT p.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE c.relname = ? AND pg_table_is_visible(c.oid)
+            """;
+
+    private final String schema = "explain_test_" + System.currentTimeMillis();
+    private final List<RecordedStatement> recorded = new CopyOnWriteArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager em;
+    private IndexDataRepositoryImpl indexDataRepository;
+    private SyncJobRepositoryImpl syncJobRepository;
+    private AnchorSyncJobRepository anchorSyncJobRepository;
+
+    @BeforeAll
+    void migrateAndSeed() {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getenv().getOrDefault("FINDEX_EXPLAIN_DB_USER", "postgres"));
+        properties.setProperty("password", System.getenv().getOrDefault("FINDEX_EXPLAIN_DB_PASSWORD", ""));
+        properties.setProperty("currentSchema", schema);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv("FINDEX_EXPLAIN_DB_URL"));
+        dataSource.setConnectionProperties(properties);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .createSchemas(true)
+                .locations("classpath:db/migration")
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false")) // V2 CREATE INDEX CONCURRENTLY
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 적재할 기준일(2015 ~ 2020)의 연도 파티션
+        jdbcTemplate.queryForList("SELECT ensure_index_data_partition(y) FROM generate_series(2015, 2021) y");
+
+        // 지수 200개 × 기준일 2000일 = 지수 데이터 40만 건
+        jdbcTemplate.execute("""
+                INSERT INTO index_infos (index_classification, index_name, employed_items_count, favorite)
+                SELECT 'KRX-' || (g % 10), 'INDEX-' || g, g % 300, g % 50 = 0
+                FROM generate_series(1, 200) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO index_data (index_info_id, base_date, source_type, closing_price, versus, fluctuation_rate)
+                SELECT i.id, DATE '2015-01-01' + d, 'OPEN_API',
+                       round((1000 + random() * 2000)::numeric, 4),
+                       round((random() * 40 - 20)::numeric, 4),
+                       round((random() * 4 - 2)::numeric, 4)
+                FROM index_infos i CROSS JOIN generate_series(0, 1999) d
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO sync_jobs (index_info_id, job_type, target_date, worker, job_time, result)
+                SELECT i.id, CASE WHEN d % 5 = 0 THEN 'INDEX_INFO' ELSE 'INDEX_DATA' END, DATE '2023-01-01' + d,
+                       CASE WHEN d % 3 = 0 THEN 'system' ELSE '127.0.0.1' END,
+                       TIMESTAMP '2023-01-01' + d * INTERVAL '1 hour', d % 7 <> 0
+                FROM index_infos i CROSS JOIN generate_series(0, 499) d
+                """);
+        // 주 단위 기간 집계 (마이그레이션 이후 적재한 데이터라 직접 채움)
+        jdbcTemplate.execute("""
+                INSERT INTO index_data_rollups (index_info_id, period_type, period_start, period_end, trading_days, close_price)
+                SELECT index_info_id, 'WEEK', date_trunc('week', base_date)::date, MAX(base_date), COUNT(*), MAX(closing_price)
+                FROM index_data
+                GROUP BY index_info_id, date_trunc('week', base_date)
+                """);
+        jdbcTemplate.execute("INSERT INTO auto_sync (index_info_id, enabled) SELECT id, id % 2 = 0 FROM index_infos");
+
+        // visibility map 갱신 → index-only scan 비용이 실제 운영 테이블과 비슷해짐
+        jdbcTemplate.execute("VACUUM ANALYZE");
+
+        // 애플리케이션과 같은 엔티티 매핑/이름 규칙으로 JPA 구성 (보내는 SELECT 문은 recorded 에 기록)
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(recording(dataSource));
+        factory.setPackagesToScan("com.codeit.findex.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        em = entityManagerFactory.createEntityManager();
+        JPAQueryFactory queryFactory = new JPAQueryFactory(em);
+        indexDataRepository = new IndexDataRepositoryImpl(em, queryFactory);
+        syncJobRepository = new SyncJobRepositoryImpl(em, queryFactory);
+        anchorSyncJobRepository = new JpaRepositoryFactory(em).getRepository(AnchorSyncJobRepository.class);
+    }
+
+    @AfterAll
+    void dropSchema() {
+        if (em != null) em.close();
+        if (entityManagerFactory != null) entityManagerFactory.close();
+        if (jdbcTemplate != null) jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+    }
+
+    @Test
+    void indexDataSliceSortedByClosingPriceUsesCompositeIndex() {
+        // 지수 데이터 목록 (IndexDataRepositoryImpl.findSlice): 종가 내림차순 두 번째 페이지
+        IndexDataSearchCondition condition = new IndexDataSearchCondition(7L, null, null,
+                new KeysetCursor("closingPrice", true, new BigDecimal("2000.0000"), 200000L).encode(),
+                "closingPrice", "desc", 10, null);
+        assertThat(indexesUsed(capture("index_data", () -> indexDataRepository.findSlice(condition))))
+                .contains("idx_index_data_info_closing_price_id");
+    }
+
+    @Test
+    void indexDataSliceSortedByBaseDateUsesKeysetIndex() {
+        IndexDataSearchCondition condition = new IndexDataSearchCondition(null, LocalDate.of(2018, 1, 1), null,
+                new KeysetCursor("baseDate", false, LocalDate.of(2018, 1, 1), 1L).encode(),
+                "baseDate", "asc", 10, null);
+        assertThat(indexesUsed(capture("index_data", () -> indexDataRepository.findSlice(condition))))
+                .contains("idx_index_data_base_date_id");
+    }
+
+    @Test
+    void keysetBoundPrunesEarlierPartitions() {
+        // 기간 조건 없이 커서만 있어도 KeysetPredicates 의 범위 조건으로 이전 연도 파티션을 제외
+        IndexDataSearchCondition condition = new IndexDataSearchCondition(null, null, null,
+                new KeysetCursor("baseDate", false, LocalDate.of(2019, 6, 1), 1L).encode(),
+                "baseDate", "asc", 10, null);
+        assertThat(explain(capture("index_data", () -> indexDataRepository.findSlice(condition))))
+                .doesNotContain("index_data_y2015", "index_data_y2018");
+    }
+
+    @Test
+    void baseDateRangeIsPrunedToMatchingPartitions() {
+        // 지수 데이터 목록의 전체 개수 (IndexDataRepositoryImpl.count)
+        IndexDataSearchCondition condition = new IndexDataSearchCondition(7L,
+                LocalDate.of(2019, 6, 1), LocalDate.of(2020, 5, 31), null, null, null, null, null);
+        assertThat(explain(capture("index_data", () -> indexDataRepository.count(condition))))
+                .contains("index_data_y2019", "index_data_y2020")
+                .doesNotContain("index_data_y2015", "index_data_y2018", "index_data_y2021", "index_data_default");
+    }
+
+    @Test
+    void majorIndexSnapshotIsIndexOnlyAndPruned() {
+        // 캐시에 없는 지수의 최신/전일 행 (DashBoardRepositoryImpl) - 적재 데이터 마지막 날(2020-06-22) 기준 31일
+        String sql = bind(DashBoardRepositoryImpl.MAJOR_INDEX_SNAPSHOT_SQL, Map.of(
+                "indexInfoIds", "7, 8, 9",
+                "beforeRowNumber", "2",
+                "since", "DATE '2020-05-22'"));
+        assertThat(explain(sql))
+                .contains("Index Only Scan")
+                .doesNotContain("index_data_y2015", "index_data_y2019");
+        assertThat(indexesUsed(sql)).contains("idx_index_data_info_date_quote");
+    }
+
+    @Test
+    void latestRollupLookupUsesRollupPrimaryKey() {
+        // 주요 지수/순위 WEEKLY, MONTHLY 비교 대상 (IndexDataRollupRepository)
+        assertThat(indexesUsed(bind(IndexDataRollupRepository.LATEST_SQL, Map.of(
+                "indexInfoIds", "7, 8, 9",
+                "periodType", "'WEEK'"))))
+                .contains("pk_index_data_rollups");
+    }
+
+    @Test
+    void anchorLookupUsesAnchorIndex() {
+        // 자동 연동 기준일 조회 (AnchorSyncJobRepository)
+        assertThat(indexesUsed(capture("sync_jobs", () -> anchorSyncJobRepository
+                .findTopByIndexInfo_IdAndJobTypeAndWorkerAndResultOrderByTargetDateDesc(7L, JobType.INDEX_DATA, "system", true))))
+                .contains("idx_sync_jobs_anchor");
+    }
+
+    @Test
+    void syncJobSliceSortedByJobTimeUsesKeysetIndex() {
+        // 연동 작업 목록 (SyncJobRepositoryImpl.search): 작업 시각 내림차순 두 번째 페이지
+        SyncJobSearchRequest param = new SyncJobSearchRequest(null, null, null, null, null, null, null, null,
+                null, null, "jobTime", "desc", 10);
+        KeysetCursor cursor = new KeysetCursor("jobTime", true, LocalDateTime.of(2023, 1, 10, 0, 0), 50000L);
+        assertThat(indexesUsed(capture("sync_jobs", () -> syncJobRepository.search(param, cursor))))
+                .contains("idx_sync_jobs_job_time_id");
+    }
+
+    /** 실행 계획에 쓰인 인덱스 이름 (파티션 인덱스는 부모 인덱스 이름으로) */
+    private Set<String> indexesUsed(String sql) {
+        return indexesUsed(new RecordedStatement(sql, List.of()));
+    }
+
+    private Set<String> indexesUsed(RecordedStatement statement) {
+        Set<String> indexes = new LinkedHashSet<>();
+        Matcher matcher = USING_INDEX.matcher(explain(statement));
+        while (matcher.find()) {
+            List<String> parents = jdbcTemplate.queryForList(PARENT_INDEX_SQL, String.class, matcher.group(1));
+            indexes.add(parents.isEmpty() ? matcher.group(1) : parents.get(0));
+        }
+        return indexes;
+    }
+
+    /** 애플리케이션 쿼리의 :이름 파라미터를 SQL 리터럴로 치환 (EXPLAIN 은 바인드 파라미터를 받지 않음) */
+    private static String bind(String sql, Map<String, String> literals) {
+        String bound = sql;
+        for (Map.Entry<String, String> literal : literals.entrySet()) {
+            bound = bound.replaceAll(":" + literal.getKey() + "\\b", Matcher.quoteReplacement(literal.getValue()));
+        }
+        assertThat(bound).doesNotContainPattern("(?<!:):[a-zA-Z]");
+        return bound;
+    }
+
+    private String explain(String sql) {
+        return explain(new RecordedStatement(sql, List.of()));
+    }
+
+    /** 기록한 SQL 을 같은 바인드 값으로 EXPLAIN (값이 있어야 파티션 pruning 까지 계획에 반영됨) */
+    private String explain(RecordedStatement statement) {
+        List<String> plan = jdbcTemplate.query("EXPLAIN " + statement.sql(), statement, (rs, rowNum) -> rs.getString(1));
+        return String.join("\n", plan);
+    }
+
+    /** action 이 보낸 SELECT 중 table 을 조회하는 첫 번째 문장 (연관 엔티티 추가 조회는 제외) */
+    private RecordedStatement capture(String table, Runnable action) {
+        recorded.clear();
+        action.run();
+        return recorded.stream()
+                .filter(statement -> statement.sql().contains(" from " + table + " "))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(table + " 조회가 실행되지 않았습니다: " + recorded));
+    }
+
+    /** 애플리케이션이 보낸 SELECT 문과 바인드 호출 (EXPLAIN 문에 같은 순서로 다시 호출) */
+    private record RecordedStatement(String sql, List<Binding> bindings) implements PreparedStatementSetter {
+        @Override
+        public void setValues(PreparedStatement ps) throws SQLException {
+            for (Binding binding : bindings) binding.apply(ps);
+        }
+    }
+
+    private record Binding(Method setter, Object[] args) {
+        void apply(PreparedStatement ps) throws SQLException {
+            try {
+                setter.invoke(ps, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause() instanceof SQLException cause ? cause : new SQLException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new SQLException(e);
+            }
+        }
+    }
+
+    private DataSource recording(DataSource target) {
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? recording(connection) : result;
+        });
+    }
+
+    private Connection recording(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if ("prepareStatement".equals(method.getName()) && args[0] instanceof String sql
+                    && sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+                RecordedStatement statement = new RecordedStatement(sql, new CopyOnWriteArrayList<>());
+                recorded.add(statement);
+                return recording((PreparedStatement) result, statement);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement recording(PreparedStatement target, RecordedStatement statement) {
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            // setLong(1, ..), setObject(2, .., Types.DATE) 같은 파라미터 바인딩만 (setFetchSize 등은 제외)
+            if (method.getName().startsWith("set") && args != null && args.length >= 2
+                    && method.getParameterTypes()[0] == int.class) {
+                statement.bindings().add(new Binding(method, args.clone()));
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryIndexUsageTest.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.codeit.findex.repository.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ChartDownsampler(LTTB) 가 고른 행 확인
+ * - 개수, 첫/마지막 행 포함, 순서, 고점/저점 유지, 종가 없는 행 제외
+ */
+class ChartDownsamplerTest {
+
+    private static final int START_EPOCH_DAY = 19000;
+
+    @Test
+    void returnsEveryRowWhenRangeFitsInMaxPoints() {
+        IndexDataSeries series = series(10, i -> BigDecimal.valueOf(1000 + i));
+
+        assertThat(ChartDownsampler.select(series, 2, 8, 6)).containsExactly(2, 3, 4, 5, 6, 7);
+        assertThat(ChartDownsampler.select(series, 0, 10, 500)).hasSize(10);
+    }
+
+    @Test
+    void selectsMaxPointsRowsInOrderIncludingFirstAndLast() {
+        IndexDataSeries series = series(5000, i -> BigDecimal.valueOf(1000 + Math.sin(i / 50.0) * 100));
+
+        int[] rows = ChartDownsampler.select(series, 1000, 4000, 300);
+
+        assertThat(rows).hasSize(300);
+        assertThat(rows[0]).isEqualTo(1000);
+        assertThat(rows[rows.length - 1]).isEqualTo(3999);
+        assertThat(rows).isSorted().doesNotHaveDuplicates();
+        assertThat(Arrays.stream(rows).allMatch(row -> row >= 1000 && row < 4000)).isTrue();
+    }
+
+    @Test
+    void keepsSpikesOfAnOtherwiseFlatSeries() {
+        // 평탄한 구간 가운데의 급등/급락은 어느 버킷에 있든 선택되어야 함
+        IndexDataSeries series = series(1000, i -> switch (i) {
+            case 317 -> BigDecimal.valueOf(5000);
+            case 731 -> BigDecimal.valueOf(10);
+            default -> BigDecimal.valueOf(1000);
+        });
+
+        assertThat(ChartDownsampler.select(series, 0, 1000, 50)).contains(317, 731);
+    }
+
+    @Test
+    void skipsRowsWithoutClosingPrice() {
+        IndexDataSeries series = series(100, i -> i % 2 == 0 ? null : BigDecimal.valueOf(1000 + i));
+
+        int[] rows = ChartDownsampler.select(series, 0, 100, 20);
+
+        assertThat(rows).hasSize(20);
+        assertThat(Arrays.stream(rows).allMatch(row -> row % 2 == 1)).isTrue();
+        assertThat(rows[0]).isEqualTo(1);
+        assertThat(rows[rows.length - 1]).isEqualTo(99);
+
+        // 종가가 있는 행이 maxPoints 이하면 그 행들을 그대로
+        assertThat(ChartDownsampler.select(series, 0, 100, 50)).hasSize(50).containsSequence(1, 3, 5);
+    }
+
+    @Test
+    void rejectsFewerThanThreePoints() {
+        IndexDataSeries series = series(10, i -> BigDecimal.ONE);
+
+        assertThatThrownBy(() -> ChartDownsampler.select(series, 0, 10, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static IndexDataSeries series(int size, IntFunction<BigDecimal> closingPrice) {
+        IndexDataSeries.Builder builder = new IndexDataSeries.Builder(1L, "KOSPI시리즈", "코스피");
+        for (int i = 0; i < size; i++) {
+            builder.add(START_EPOCH_DAY + i, null, closingPrice.apply(i), null, null, null, null, null, null, null);
+        }
+        return builder.build(new int[]{5, 20});
+    }
+}